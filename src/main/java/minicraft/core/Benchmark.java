@@ -0,0 +1,158 @@
+package minicraft.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.tinylog.Logger;
+
+import minicraft.core.io.FileHandler;
+import minicraft.core.io.InputHandler;
+import minicraft.core.io.Settings;
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+import minicraft.screen.WorldSelectDisplay;
+
+/*
+ * Renders a world without a game window while the camera goes around in a circle, and
+ * reports how long every part of a frame took. This is started with --benchmark [frames],
+ * to keep track of how fast the rendering is on machines without a display.
+ *
+ * The other arguments are:
+ * --benchmark-world <name>   loads a world from the saves, instead of generating one
+ * --benchmark-seed <seed>    the seed of the generated world (0)
+ * --benchmark-level <index>  which level to render, from 0 to 6 (3, the surface)
+ * --benchmark-png <dir>      saves every frame as a png in the directory
+ */
+final class Benchmark extends Game {
+	private Benchmark() {}
+
+	private static final String[] STAGES = { "Background", "Sprites", "Lighting", "Total" };
+	private static final int RADIUS = 16 << 4; // How far the camera goes from the middle, in pixels
+
+	static boolean isRequested(String[] args) {
+		for (String arg : args) {
+			if (arg.equals("--benchmark")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static void run(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		int frames = 600;
+		String world = null;
+		long seed = 0;
+		int levelIndex = 3;
+		File pngDir = null;
+		String saveDir = FileHandler.getSystemGameDir();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--benchmark") && i + 1 < args.length && args[i + 1].matches("[0-9]+")) {
+				frames = Math.max(Integer.parseInt(args[++i]), 1);
+			} else if (args[i].equals("--benchmark-world") && i + 1 < args.length) {
+				world = args[++i];
+			} else if (args[i].equals("--benchmark-seed") && i + 1 < args.length) {
+				seed = Long.parseLong(args[++i]);
+			} else if (args[i].equals("--benchmark-level") && i + 1 < args.length) {
+				levelIndex = Math.max(Math.min(Integer.parseInt(args[++i]), levels.length - 1), 0);
+			} else if (args[i].equals("--benchmark-png") && i + 1 < args.length) {
+				pngDir = new File(args[++i]);
+				pngDir.mkdirs();
+			} else if (args[i].equals("--savedir") && i + 1 < args.length) {
+				saveDir = args[++i];
+			} else if (args[i].equals("--debug")) {
+				debug = true;
+			}
+		}
+
+		FileHandler.determineGameDir(saveDir);
+
+		// Like the game starts, without the window, sounds and discord
+		input = new InputHandler(Renderer.canvas);
+		World.resetGame();
+		Tiles.initialize();
+		Renderer.initHeadlessScreen();
+
+		long start = System.nanoTime();
+		if (world != null) {
+			WorldSelectDisplay.setWorldName(world, true);
+			World.initWorld();
+		} else {
+			World.generateWorld((int) Settings.get("size"), seed);
+		}
+		Logger.info("Benchmark world {} in {} ms", world != null ? "loaded" : "generated", (System.nanoTime() - start) / 1000000);
+
+		Level level = levels[levelIndex];
+		if (level == null) {
+			Logger.error("Benchmark failure, the world has no level {}!", levelIndex);
+			return;
+		}
+		currentLevel = levelIndex;
+
+		// Around the player if it's on the level, otherwise around the middle of it
+		int xCenter = player.getLevel() == level ? player.x : level.w << 3;
+		int yCenter = player.getLevel() == level ? player.y : level.h << 3;
+
+		long[][] times = new long[STAGES.length][frames];
+		for (int frame = 0; frame < frames; frame++) {
+			double angle = 2 * Math.PI * frame / frames;
+			int xScroll = Renderer.getXScroll(level, xCenter + (int) (Math.cos(angle) * RADIUS));
+			int yScroll = Renderer.getYScroll(level, yCenter + (int) (Math.sin(angle) * RADIUS));
+
+			long time0 = System.nanoTime();
+			Renderer.renderBackground(level, xScroll, yScroll);
+			long time1 = System.nanoTime();
+			level.renderSprites(Renderer.screen, xScroll, yScroll);
+			long time2 = System.nanoTime();
+			Renderer.renderLighting(level, xScroll, yScroll);
+			long time3 = System.nanoTime();
+
+			times[0][frame] = time1 - time0;
+			times[1][frame] = time2 - time1;
+			times[2][frame] = time3 - time2;
+			times[3][frame] = time3 - time0;
+
+			if (pngDir != null) {
+				try {
+					ImageIO.write(Renderer.getImage(), "png", new File(pngDir, String.format("frame%04d.png", frame)));
+				} catch (IOException exception) {
+					Logger.error("Could not save frame {} to {}, no more frames will be saved", frame, pngDir);
+					exception.printStackTrace();
+					pngDir = null;
+				}
+			}
+		}
+
+		report(times, frames / 10);
+	}
+
+	/** Logs the average, median, 99th percentile and worst time of every stage, leaving out the warm up frames. */
+	private static void report(long[][] times, int warmUp) {
+		int count = times[0].length - warmUp;
+		Logger.info("Rendered {} frames ({} more to warm up) of {}x{} pixels", count, warmUp, Renderer.WIDTH, Renderer.HEIGHT);
+		Logger.info(String.format("%-12s %10s %10s %10s %10s", "Stage", "avg ms", "p50 ms", "p99 ms", "max ms"));
+
+		double totalAverage = 0;
+		for (int stage = 0; stage < STAGES.length; stage++) {
+			long[] sorted = Arrays.copyOfRange(times[stage], warmUp, times[stage].length);
+			Arrays.sort(sorted);
+
+			double sum = 0;
+			for (long time : sorted) {
+				sum += time;
+			}
+			double average = sum / count / 1E6;
+			totalAverage = average; // The last stage is the total
+
+			Logger.info(String.format("%-12s %10.3f %10.3f %10.3f %10.3f", STAGES[stage], average,
+				sorted[count / 2] / 1E6, sorted[Math.min(count * 99 / 100, count - 1)] / 1E6, sorted[count - 1] / 1E6));
+		}
+
+		Logger.info(String.format("About %.1f frames per second", 1000 / totalAverage));
+	}
+}
@@ -188,6 +188,13 @@ public class Game {
 		});
 
 		
+		// Renders frames without a window to see how fast, instead of starting the game
+		if (Benchmark.isRequested(args)) {
+			Benchmark.run(args);
+			System.exit(0);
+			return;
+		}
+
 		// START EVENTS
 
 		// Clean previously downloaded native files
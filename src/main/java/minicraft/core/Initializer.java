@@ -11,6 +11,7 @@ import java.awt.event.WindowListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 import javax.swing.JFrame;
@@ -38,6 +39,11 @@ public class Initializer extends Game {
 	static int fra;
 	static int tik; 
 
+	// --render-thread arg; renders on its own thread, from a snapshot that every tick leaves behind
+	static boolean renderThread = false;
+	private static Thread tickThread; // The thread running the main loop
+	private static final AtomicInteger renderedFrames = new AtomicInteger();
+
 	public static int getCurrentFPS() {
 		return fra;
 	}
@@ -55,6 +61,8 @@ public class Initializer extends Game {
 			} else if (args[i].equals("--fullscreen")) {
 				// Initializes fullscreen
 				Updater.FULLSCREEN = true;
+			} else if (args[i].equals("--render-thread")) {
+				renderThread = true;
 			}
 		}
 
@@ -71,6 +79,11 @@ public class Initializer extends Game {
 	 * - update the discord rpc
 	 */
 	static void run(Core discordCore) {
+		tickThread = Thread.currentThread();
+		if (renderThread) {
+			startRenderThread();
+		}
+
 	    long lastTick = System.nanoTime();
 	    long lastRender = System.nanoTime();
 	    double unprocessed = 0; // delta?
@@ -87,10 +100,7 @@ public class Initializer extends Game {
 	        long now = System.nanoTime();
 	        
 		    // Calculate nanoseconds per tick (updates)
-		    double nsPerTick = 1E9D / Updater.normalSpeed;
-		    if (display == null) {
-		        nsPerTick /= Updater.gameSpeed;
-		    }
+		    double nsPerTick = getNsPerTick();
 
 	        unprocessed += (now - lastTick) / nsPerTick;
 	        lastTick = now;
@@ -99,12 +109,15 @@ public class Initializer extends Game {
 	        while (unprocessed >= 1) {
 	            ticks++;
 	            Updater.tick();
+	            if (renderThread) {
+	                Renderer.render(); // only records the screen for the render thread
+	            }
 	            unprocessed--;
 	        }
 	
 	        // Refresh the screen
 	        now = System.nanoTime();
-			if (now >= lastRender + 1E9D / maxFPS / 1.05) {
+			if (!renderThread && now >= lastRender + 1E9D / maxFPS / 1.05) {
 				frames++;
 				lastRender = System.nanoTime();
 				Renderer.render();
@@ -113,7 +126,7 @@ public class Initializer extends Game {
 			try {
 				long curNano = System.nanoTime();
 				long untilNextTick = (long) (lastTick + nsPerTick - curNano);
-				long untilNextFrame = (long) (lastRender + 1E9D / maxFPS - curNano);
+				long untilNextFrame = renderThread ? Long.MAX_VALUE : (long) (lastRender + 1E9D / maxFPS - curNano);
 				if (untilNextTick > 1E3 && untilNextFrame > 1E3) {
 					double timeToWait = Math.min(untilNextTick, untilNextFrame) / 1.2; // in nanosecond
 					//noinspection BusyWait
@@ -125,6 +138,10 @@ public class Initializer extends Game {
 			if (System.currentTimeMillis() - lastTimer > 1000) { // updates every 1 second
 				long interval = System.currentTimeMillis() - lastTimer;
 				lastTimer += 1000; // adds a second to the timer
+
+				if (renderThread) {
+					frames = renderedFrames.getAndSet(0);
+				}
 	
 				fra = (int) Math.round(frames * 1000D / interval); // saves total frames in last second
 				tik = (int) Math.round(ticks * 1000D / interval); // saves total ticks in last second
@@ -134,6 +151,45 @@ public class Initializer extends Game {
 	    }
 	}
 
+	private static double getNsPerTick() {
+		double nsPerTick = 1E9D / Updater.normalSpeed;
+		if (display == null) {
+			nsPerTick /= Updater.gameSpeed;
+		}
+		return nsPerTick;
+	}
+
+	/** @return if this is the thread that runs the ticks. */
+	static boolean isTickThread() {
+		return Thread.currentThread() == tickThread;
+	}
+
+	/** Starts rendering the screen on its own thread, so slow frames don't hold the ticks back and the other way around. */
+	private static void startRenderThread() {
+		Thread thread = new Thread(() -> {
+			long lastRender = System.nanoTime();
+			while (running) {
+				double nsPerFrame = 1E9D / maxFPS;
+				long now = System.nanoTime();
+				if (now >= lastRender + nsPerFrame / 1.05) {
+					lastRender = now;
+					Renderer.renderSnapshot(getNsPerTick());
+					renderedFrames.incrementAndGet();
+					continue;
+				}
+
+				long timeToWait = (long) (lastRender + nsPerFrame - now);
+				try {
+					//noinspection BusyWait
+					Thread.sleep(timeToWait / 1000000, (int) (timeToWait % 1000000));
+				} catch (InterruptedException ignored) {}
+			}
+		}, "Render");
+
+		thread.setDaemon(true);
+		thread.start();
+	}
+
 
 	// Creates and displays the JFrame window that the game appears in.
 	static java.awt.Dimension dimension;
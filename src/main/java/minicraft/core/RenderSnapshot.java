@@ -0,0 +1,132 @@
+package minicraft.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import minicraft.graphic.DrawList;
+import minicraft.level.Level;
+import minicraft.level.TileChunk;
+
+/**
+ * What the screen showed at the end of a tick, recorded by the tick thread for the render
+ * thread: the camera and where it was the tick before, the sprites of the entities with how
+ * far each moved since, the gui, the lights, and the chunks of tiles that changed. None of
+ * it refers to the entities or levels the tick thread keeps changing, so the render thread
+ * can draw it, with everything moved part of the way back, while the next tick runs.
+ *
+ * A snapshot doesn't change after it was made. The render thread keeps its own copy of the
+ * tiles of the levels, which it brings up to date with the chunks of every snapshot.
+ */
+final class RenderSnapshot {
+
+	/** A copy of the tiles of one chunk of a level, that changed since the last snapshot. */
+	static final class ChunkUpdate {
+		final int level;
+		final int generation; // changes when the level at the index is replaced by another one
+		final int w, h, depth;
+		final TileChunk chunk;
+
+		ChunkUpdate(int level, int generation, int w, int h, int depth, TileChunk chunk) {
+			this.level = level;
+			this.generation = generation;
+			this.w = w;
+			this.h = h;
+			this.depth = depth;
+			this.chunk = chunk;
+		}
+
+		private boolean replaces(ChunkUpdate other) {
+			return level == other.level && generation == other.generation && chunk.index == other.chunk.index;
+		}
+	}
+
+	final long time; // System.nanoTime() of the tick
+	final int level; // -1 if no level is shown
+
+	final int xScroll, yScroll; // the camera at the tick
+	final int xScrollBefore, yScrollBefore; // the camera the tick before, the same after a teleport
+
+	final DrawList sprites; // the entities, as drawn with the camera at xScroll, yScroll
+	final DrawList gui; // the gui and the menus, which don't move
+	final int[] lights; // x, y, light radius, and how far back it moved, of every light of an entity
+
+	final boolean overlay, darkness; // which of the two passes of Renderer.renderLighting are done
+	final int overlayTint, darknessTint, brightness;
+
+	final ChunkUpdate[] chunks;
+
+	RenderSnapshot(long time, int level, int xScroll, int yScroll, RenderSnapshot before, DrawList sprites, DrawList gui, int[] lights,
+			boolean overlay, boolean darkness, int overlayTint, int darknessTint, int brightness, ChunkUpdate[] chunks) {
+		this.time = time;
+		this.level = level;
+		this.xScroll = xScroll;
+		this.yScroll = yScroll;
+
+		boolean moved = before != null && level >= 0 && before.level == level
+			&& Math.abs(before.xScroll - xScroll) <= Level.MAX_STEP && Math.abs(before.yScroll - yScroll) <= Level.MAX_STEP;
+		xScrollBefore = moved ? before.xScroll : xScroll;
+		yScrollBefore = moved ? before.yScroll : yScroll;
+
+		this.sprites = sprites;
+		this.gui = gui;
+		this.lights = lights;
+		this.overlay = overlay;
+		this.darkness = darkness;
+		this.overlayTint = overlayTint;
+		this.darknessTint = darknessTint;
+		this.brightness = brightness;
+		this.chunks = chunks;
+	}
+
+	/** @return the given share (0 to 1) of how far back the camera moved since the tick before. */
+	int getXBack(double back) {
+		return (int) Math.rint((xScrollBefore - xScroll) * back);
+	}
+
+	int getYBack(double back) {
+		return (int) Math.rint((yScrollBefore - yScroll) * back);
+	}
+
+	/**
+	 * @return the chunk updates of a snapshot that the render thread never took, followed by
+	 * the new ones, leaving out the old ones that a new one replaces.
+	 */
+	static ChunkUpdate[] merge(RenderSnapshot untaken, List<ChunkUpdate> updates) {
+		if (untaken == null || untaken.chunks.length == 0) {
+			return updates.toArray(new ChunkUpdate[0]);
+		}
+
+		List<ChunkUpdate> merged = new ArrayList<>(untaken.chunks.length + updates.size());
+		for (ChunkUpdate old : untaken.chunks) {
+			boolean replaced = false;
+			for (ChunkUpdate update : updates) {
+				if (update.replaces(old)) {
+					replaced = true;
+					break;
+				}
+			}
+			if (!replaced) {
+				merged.add(old);
+			}
+		}
+		merged.addAll(updates);
+		return merged.toArray(new ChunkUpdate[0]);
+	}
+
+	/**
+	 * Brings the copies of the levels that the render thread draws from up to date, making
+	 * a new copy for a level that was replaced. Only the render thread calls this.
+	 */
+	void updateLevels(Level[] copies, int[] generations) {
+		for (ChunkUpdate update : chunks) {
+			if (copies[update.level] == null || generations[update.level] != update.generation) {
+				if (copies[update.level] != null && generations[update.level] - update.generation > 0) {
+					continue; // from a level that was replaced already
+				}
+				copies[update.level] = new Level(update.w, update.h, 0, update.depth, null, false);
+				generations[update.level] = update.generation;
+			}
+			copies[update.level].loadChunk(update.chunk);
+		}
+	}
+}
@@ -7,14 +7,17 @@ import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.imageio.ImageIO;
 
 import org.tinylog.Logger;
 
+import minicraft.core.RenderSnapshot.ChunkUpdate;
 import minicraft.core.io.Settings;
 import minicraft.entity.Entity;
 import minicraft.entity.furniture.Bed;
@@ -22,6 +25,7 @@ import minicraft.entity.mob.AirWizard;
 import minicraft.entity.mob.EyeQueen;
 import minicraft.entity.mob.Player;
 import minicraft.graphic.Color;
+import minicraft.graphic.DrawList;
 import minicraft.graphic.Ellipsis;
 import minicraft.graphic.Ellipsis.DotUpdater.TickUpdater;
 import minicraft.graphic.Ellipsis.SmoothEllipsis;
@@ -36,6 +40,7 @@ import minicraft.item.PotionType;
 import minicraft.item.ToolItem;
 import minicraft.item.ToolType;
 import minicraft.level.Level;
+import minicraft.level.TileChunk;
 import minicraft.screen.InfoDisplay;
 import minicraft.screen.LoadingDisplay;
 import minicraft.screen.RelPos;
@@ -64,6 +69,24 @@ public class Renderer extends Game {
 	public static boolean showDebugInfo = false;
 	public static boolean renderRain = false;
 
+	// With the render thread: the last snapshot the tick thread recorded that the render thread didn't take yet
+	private static final AtomicReference<RenderSnapshot> snapshot = new AtomicReference<>();
+
+	// Only used by the tick thread: the last snapshot, and the levels and chunk modifications it has sent
+	private static RenderSnapshot lastSnapshot;
+	private static Level[] sentLevels = new Level[0];
+	private static int[] sentGenerations = new int[0];
+	private static int[][] sentModifications = new int[0][];
+
+	// Only used by the render thread: the screens it draws with, its copies of the levels, and what it drew last
+	private static BufferedImage shownImage;
+	private static Screen shownScreen, shownLightScreen;
+	private static int shownSheetChanges;
+	private static Level[] levelCopies;
+	private static int[] levelGenerations;
+	private static RenderSnapshot shown;
+	private static double shownAlpha;
+
 	private static final Ellipsis ellipsis = (Ellipsis) new SmoothEllipsis(new TickUpdater());
 
 	public static SpriteSheet[] loadDefaultTextures() {
@@ -125,6 +148,21 @@ public class Renderer extends Game {
 	static void initScreen() {
 		Logger.debug("Initializing game display ...");
 
+		createScreens();
+		
+		Initializer.startCanvasRendering();
+		canvas.createBufferStrategy(3);
+		canvas.requestFocus();
+	}
+
+	/** Makes the screens without a window, so they only draw into the pixels of the image (used by the benchmark). */
+	static void initHeadlessScreen() {
+		Logger.debug("Initializing headless game display ...");
+
+		createScreens();
+	}
+
+	private static void createScreens() {
 		SpriteSheet[] sheets = loadDefaultTextures();
 		
 		screen = new Screen(sheets[0], sheets[1], sheets[2], sheets[3], sheets[4], sheets[5]);
@@ -134,20 +172,37 @@ public class Renderer extends Game {
 		
 		image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
 		screen.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
-		
-		Initializer.startCanvasRendering();
-		canvas.createBufferStrategy(3);
-		canvas.requestFocus();
 	}
 
-	/** Renders the current screen. Called in game loop, a bit after tick(). */
+	/** @return the image that the screen draws into. */
+	static BufferedImage getImage() {
+		return image;
+	}
+
+	/**
+	 * Renders the current screen. Called in game loop, a bit after tick(). With the render
+	 * thread, this only records the screen for it, and only on the tick thread.
+	 */
 	public static void render() {
 		if (screen == null) {
 			return; // No point in this if there's no gui... :P
 		}
 
+		if (Initializer.renderThread) {
+			if (Initializer.isTickThread()) {
+				recordSnapshot();
+			}
+			return;
+		}
+
+		renderLevel();
+		renderOverlays();
+		present(image);
+	}
+
+	/** Renders the gui, the menu and the focus nagger, everything drawn over the level. */
+	private static void renderOverlays() {
 		if (readyToRenderGameplay) {
-			renderLevel();
 			renderGui();
 		}
 
@@ -158,7 +213,174 @@ public class Renderer extends Game {
 		if (!canvas.hasFocus()) {
 			renderFocusNagger(); // Calls the renderFocusNagger() method, which creates the "Click to Focus" message.
 		}
+	}
+
+	/**
+	 * Records what the screen would show now into a snapshot for the render thread, in place
+	 * of the last one if the render thread didn't take that yet.
+	 */
+	private static void recordSnapshot() {
+		Level level = readyToRenderGameplay ? levels[currentLevel] : null;
+		DrawList sprites = new DrawList();
+		DrawList gui = new DrawList();
+		int xScroll = 0, yScroll = 0;
+		int[] lights = new int[0];
+		List<ChunkUpdate> chunks = new ArrayList<>();
+
+		try {
+			if (level != null) {
+				xScroll = getXScroll(level, player.x);
+				yScroll = getYScroll(level, player.y);
+
+				screen.record(sprites);
+				level.renderSprites(screen, xScroll, yScroll);
+				lights = level.recordLights(xScroll, yScroll);
+				findChangedChunks(level, chunks);
+			}
+
+			screen.record(gui);
+			renderOverlays();
+		} finally {
+			screen.record(null);
+		}
+		sprites.finish();
+		gui.finish();
+
+		boolean overlay = level != null && hasOverlay();
+		boolean darkness = level != null && hasDarkness();
+		RenderSnapshot next = new RenderSnapshot(System.nanoTime(), level != null ? currentLevel : -1, xScroll, yScroll, lastSnapshot, sprites, gui, lights,
+			overlay, darkness, overlay ? Screen.overlayTint(currentLevel) : 0, darkness ? Screen.darknessTint(currentLevel) : 0, getBrightness(),
+			RenderSnapshot.merge(snapshot.get(), chunks));
+
+		// If the render thread takes the last one in between, it gets some chunks twice, which does no harm
+		snapshot.set(next);
+		lastSnapshot = next;
+	}
+
+	/** Adds a copy of every chunk of the shown level that changed since it was last sent to the render thread. */
+	private static void findChangedChunks(Level level, List<ChunkUpdate> chunks) {
+		if (sentLevels.length != levels.length) {
+			sentLevels = Arrays.copyOf(sentLevels, levels.length);
+			sentGenerations = Arrays.copyOf(sentGenerations, levels.length);
+			sentModifications = Arrays.copyOf(sentModifications, levels.length);
+		}
+
+		if (sentLevels[currentLevel] != level) { // a level the render thread doesn't have yet
+			sentLevels[currentLevel] = level;
+			sentGenerations[currentLevel]++;
+			sentModifications[currentLevel] = new int[level.getChunkCount()];
+			Arrays.fill(sentModifications[currentLevel], -1);
+		}
+
+		int[] sent = sentModifications[currentLevel];
+		for (int chunk = 0; chunk < sent.length; chunk++) {
+			int modifications = level.getChunkModifications(chunk);
+			if (modifications != sent[chunk]) {
+				TileChunk copy = level.getChunkSnapshot(chunk);
+				sent[chunk] = modifications; // not the one of the copy, so a change while copying gets sent again
+				chunks.add(new ChunkUpdate(currentLevel, sentGenerations[currentLevel], level.w, level.h, level.depth, copy));
+			}
+		}
+	}
+
+	/**
+	 * Renders the last snapshot from the render thread, with everything moved part of the way
+	 * back to where it was the tick before, as far as the next tick is away. This only reads
+	 * the snapshot and the render thread's own copies of the levels, never the entities or
+	 * levels of the game, so it doesn't wait for the ticks and they don't wait for it.
+	 */
+	static void renderSnapshot(double nsPerTick) {
+		if (screen == null) {
+			return;
+		}
+
+		if (shownScreen == null) {
+			shownImage = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+			shownScreen = new Screen(screen, ((DataBufferInt) shownImage.getRaster().getDataBuffer()).getData(), WIDTH, HEIGHT);
+			shownLightScreen = new Screen(screen);
+			shownSheetChanges = screen.getSheetChanges();
+			levelCopies = new Level[levels.length];
+			levelGenerations = new int[levels.length];
+		}
+
+		RenderSnapshot taken = snapshot.getAndSet(null);
+		if (taken != null) {
+			taken.updateLevels(levelCopies, levelGenerations);
+		}
 
+		RenderSnapshot last = shown;
+		double lastAlpha = shownAlpha;
+		if (taken != null) {
+			shown = taken;
+		}
+		if (shown == null) {
+			return;
+		}
+
+		if (shownSheetChanges != screen.getSheetChanges()) { // a texture pack was picked
+			shownSheetChanges = screen.getSheetChanges();
+			shownScreen.setSheets(screen);
+			last = null;
+		}
+
+		shownAlpha = Math.min((System.nanoTime() - shown.time) / nsPerTick, 1);
+		if (shown != last || shownAlpha != lastAlpha) { // otherwise the frame would be the same as the last one
+			renderFrame(shown, shownAlpha);
+		}
+
+		present(shownImage);
+	}
+
+	private static void renderFrame(RenderSnapshot frame, double alpha) {
+		Screen screen = shownScreen; // not the one the tick thread records with
+		double back = 1 - alpha;
+
+		Level level = frame.level >= 0 ? levelCopies[frame.level] : null;
+		if (level != null) {
+			int xBack = frame.getXBack(back);
+			int yBack = frame.getYBack(back);
+			int xScroll = frame.xScroll + xBack;
+			int yScroll = frame.yScroll + yBack;
+
+			if (frame.level > 3) {
+				renderSky(screen, xScroll, yScroll);
+			}
+			level.renderBackground(screen, xScroll, yScroll);
+			screen.replay(frame.sprites, -xBack, -yBack, back);
+
+			if (frame.overlay || frame.darkness) {
+				shownLightScreen.clear(0);
+				renderLights(shownLightScreen, frame.lights, xScroll, yScroll, frame.brightness, back);
+				level.renderTileLight(shownLightScreen, xScroll, yScroll, frame.brightness);
+
+				if (frame.overlay) {
+					screen.overlay(shownLightScreen, frame.level, xScroll, yScroll, frame.overlayTint);
+				}
+				if (frame.darkness) {
+					screen.darkness(shownLightScreen, frame.level, xScroll, yScroll, frame.darknessTint);
+				}
+			}
+		}
+
+		screen.replay(frame.gui, 0, 0, 0);
+	}
+
+	/** Renders the recorded lights of the entities, moved the given share of the way back. */
+	private static void renderLights(Screen lightScreen, int[] lights, int xScroll, int yScroll, int brightness, double back) {
+		int count = lights.length / 5;
+		int[] moved = new int[count * 3];
+		for (int i = 0; i < count; i++) {
+			moved[i * 3] = lights[i * 5] + (int) Math.rint(lights[i * 5 + 3] * back);
+			moved[i * 3 + 1] = lights[i * 5 + 1] + (int) Math.rint(lights[i * 5 + 4] * back);
+			moved[i * 3 + 2] = lights[i * 5 + 2] * brightness;
+		}
+
+		lightScreen.setOffset(xScroll, yScroll);
+		lightScreen.renderLights(moved, count);
+		lightScreen.setOffset(0, 0);
+	}
+
+	private static void present(BufferedImage image) {
 		BufferStrategy bufferStrategy = canvas.getBufferStrategy(); // Creates a buffer strategy to determine how the graphics should be buffered.
 		Graphics graphics = bufferStrategy.getDrawGraphics(); // Gets the graphics in which java draws the picture
 		graphics.fillRect(0, 0, canvas.getWidth(), canvas.getHeight()); // draws a rect to fill the whole window (to cover last?)
@@ -179,34 +401,76 @@ public class Renderer extends Game {
 	private static void renderLevel() {
 		Level level = levels[currentLevel];
 
-		if (level == null) {
+		if (!readyToRenderGameplay || level == null) {
 			return;
 		}
 
-		int xScroll = player.x - (Screen.w / 2); // Scrolls the screen in the x axis.
-		int yScroll = player.y - (Screen.h - 8) / 2; // Scrolls the screen in the y axis.
+		int xScroll = getXScroll(level, player.x);
+		int yScroll = getYScroll(level, player.y);
 
-		// Stop scrolling if the screen is at the ...
-		if (xScroll < 0) xScroll = 0; // ...Left border.
-		if (yScroll < 0) yScroll = 0; // ...Top border.
-		if (xScroll > ((level.w << 4) - Screen.w)) xScroll = ((level.w << 4) - Screen.w); // ...right border.
-		if (yScroll > ((level.h << 4) - Screen.h)) yScroll = ((level.h << 4) - Screen.h); // ...bottom border.
+		renderBackground(level, xScroll, yScroll);
+		level.renderSprites(screen, xScroll, yScroll); // Renders level sprites on screen
+		renderLighting(level, xScroll, yScroll);
+	}
 
+	/** @return how far the screen is scrolled in the x axis to show the given x in the middle. */
+	static int getXScroll(Level level, int x) {
+		int xScroll = x - (Screen.w / 2);
+
+		// Stop scrolling if the screen is at the left or right border
+		if (xScroll < 0) xScroll = 0;
+		if (xScroll > ((level.w << 4) - Screen.w)) xScroll = ((level.w << 4) - Screen.w);
+		return xScroll;
+	}
+
+	/** @return how far the screen is scrolled in the y axis to show the given y in the middle. */
+	static int getYScroll(Level level, int y) {
+		int yScroll = y - (Screen.h - 8) / 2;
+
+		// Stop scrolling if the screen is at the top or bottom border
+		if (yScroll < 0) yScroll = 0;
+		if (yScroll > ((level.h << 4) - Screen.h)) yScroll = ((level.h << 4) - Screen.h);
+		return yScroll;
+	}
+
+	/** Renders the sky (and dungeon) background, and the tiles of the level. */
+	static void renderBackground(Level level, int xScroll, int yScroll) {
 		if (currentLevel > 3) { // If the current level is higher than 3 (which only the sky level (and dungeon) is)
-			for (int y = 0; y < 56; y++) {
-				for (int x = 0; x < 96; x++) {
-					// Creates the background for the sky (and dungeon) level:
-					screen.render(x * 8 - ((xScroll >> 2) & 7), y * 8 - ((yScroll >> 2) & 7), 3 + 23 * 32, 0, 1); // for rain
-				}
-			}
+			renderSky(screen, xScroll, yScroll);
 		}
 		
 		// for earthquakes
 		level.renderBackground(screen, xScroll, yScroll); // Renders current level background
-		level.renderSprites(screen, xScroll, yScroll); // Renders level sprites on screen
+	}
+
+	private static void renderSky(Screen screen, int xScroll, int yScroll) {
+		for (int y = 0; y < 56; y++) {
+			for (int x = 0; x < 96; x++) {
+				// Creates the background for the sky (and dungeon) level:
+				screen.render(x * 8 - ((xScroll >> 2) & 7), y * 8 - ((yScroll >> 2) & 7), 3 + 23 * 32, 0, 1); // for rain
+			}
+		}
+	}
+
+	/** @return if the caves, or the surface at this time of the day, get dark where there is no light. */
+	private static boolean hasOverlay() {
+		return currentLevel != 3 || Updater.tickCount < Updater.dayLength / 4 || Updater.tickCount > Updater.dayLength / 2;
+	}
+
+	/** @return if the night darkens the surface or the sky. */
+	private static boolean hasDarkness() {
+		return player != null && !player.isNiceNight && (currentLevel == 3 || currentLevel == 4);
+	}
 
+	/** @return what the light radius of everything is multiplied with; more with the Light potion effect. */
+	private static int getBrightness() {
+		return player != null && player.potionEffects.containsKey(PotionType.Light) ? 12 : 8;
+	}
+
+	/** Renders the darkness of the caves and the night. */
+	static void renderLighting(Level level, int xScroll, int yScroll) {
 		// this creates the darkness in the caves
-		if (currentLevel != 3 || Updater.tickCount < Updater.dayLength / 4 || Updater.tickCount > Updater.dayLength / 2) {
+		if (hasOverlay()) {
 
 			// This doesn't mean that the pixel will be black; it means that the pixel will
 			// be DARK, by default; lightScreen is about light vs. dark, not necessarily a
@@ -215,23 +479,15 @@ public class Renderer extends Game {
 			// will do different things depending on the game level and time of day.
 			lightScreen.clear(0); 
 
-			// Brightens all
-			int brightnessMultiplier = player.potionEffects.containsKey(PotionType.Light) ? 12 : 8; 
-
-			// Light sources by a factor of 1.5 when the player has the Light potion effect. (8 above is normal)
-			level.renderLight(lightScreen, xScroll, yScroll, brightnessMultiplier); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
+			// Light sources by a factor of 1.5 when the player has the Light potion effect. (8 is normal)
+			level.renderLight(lightScreen, xScroll, yScroll, getBrightness()); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
 			screen.overlay(lightScreen, currentLevel, xScroll, yScroll); // Overlays the light screen over the main screen.
 		}
 		
-		if (player != null) {
-			if (!player.isNiceNight && (currentLevel == 3 || currentLevel == 4)) {
-				lightScreen.clear(0); 
-	
-				// Brightens all
-				int brightnessMultiplier = player.potionEffects.containsKey(PotionType.Light) ? 12 : 8; 
-				level.renderLight(lightScreen, xScroll, yScroll, brightnessMultiplier); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
-				screen.darkness(lightScreen, currentLevel, xScroll, yScroll);
-			}
+		if (hasDarkness()) {
+			lightScreen.clear(0); 
+			level.renderLight(lightScreen, xScroll, yScroll, getBrightness()); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
+			screen.darkness(lightScreen, currentLevel, xScroll, yScroll);
 		}
 		
 	}
@@ -564,6 +820,7 @@ public class Renderer extends Game {
 				
 				info.add("Current level: " + levelName);
 				info.add("Mobs Count: " + levels[currentLevel].mobCount + "/" + levels[currentLevel].maxMobCount);
+				info.add("Entities: +" + levels[currentLevel].addedCount + " -" + levels[currentLevel].removedCount);
 				
 				/// Displays number of chests left, if on dungeon level.
 				if (currentLevel == 6) {
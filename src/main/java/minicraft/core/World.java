@@ -120,39 +120,43 @@ public class World extends Game {
 		if (WorldSelectDisplay.hasLoadedWorld()) {
 			new Load(WorldSelectDisplay.getWorldName());
 		} else {
+			generateWorld((int) Settings.get("size"), WorldGenDisplay.getSeed().orElse(new Random().nextLong()));
+		}
 
-			worldSize = (int) Settings.get("size");
+		Renderer.readyToRenderGameplay = true;
+		PlayerDeathDisplay.shouldRespawn = true;
+		Logger.trace("World initialized.");
+	}
 
-            seed = WorldGenDisplay.getSeed().orElse(new Random().nextLong());
-			random = new Random(seed);
+	/** Generates all the levels of a new world from the given seed, and puts the player on the surface. */
+	static void generateWorld(int size, long seed) {
+		worldSize = size;
 
-			float loadingIncrement = 100f / (maxLevelDepth - minLevelDepth + 1); // The .002 is for floating point errors, in case they occur.
-			for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
-				// i = level depth; the array starts from the top because the parent level is used as a reference, so it should be constructed first. It is expected that the highest level will have a null parent.
+		World.seed = seed;
+		random = new Random(seed);
 
-				Logger.trace("Loading level {} ..." , i);
+		float loadingIncrement = 100f / (maxLevelDepth - minLevelDepth + 1); // The .002 is for floating point errors, in case they occur.
+		for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
+			// i = level depth; the array starts from the top because the parent level is used as a reference, so it should be constructed first. It is expected that the highest level will have a null parent.
 
-				LoadingDisplay.setProgressType(Level.getDepthString(i));
-				if (i > 0) {
-					levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, null, !WorldSelectDisplay.hasLoadedWorld());
-				} else {
-					levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, levels[levelIndex(i + 1)], !WorldSelectDisplay.hasLoadedWorld());
-				}
+			Logger.trace("Loading level {} ..." , i);
 
-				LoadingDisplay.progress(loadingIncrement);
+			LoadingDisplay.setProgressType(Level.getDepthString(i));
+			if (i > 0) {
+				levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, null, true);
+			} else {
+				levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, levels[levelIndex(i + 1)], true);
 			}
 
-			Logger.trace("Level loading complete.");
-
-			Level level = levels[currentLevel]; // Sets level to the current level (3; surface)
-			Updater.pastFirstDay = false;
-			player.findStartPos(level, seed); // Finds the start level for the player
-			level.add(player);
+			LoadingDisplay.progress(loadingIncrement);
 		}
 
-		Renderer.readyToRenderGameplay = true;
-		PlayerDeathDisplay.shouldRespawn = true;
-		Logger.trace("World initialized.");
+		Logger.trace("Level loading complete.");
+
+		Level level = levels[currentLevel]; // Sets level to the current level (3; surface)
+		Updater.pastFirstDay = false;
+		player.findStartPos(level, seed); // Finds the start level for the player
+		level.add(player);
 	}
 
     public static long getWorldSeed() {
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import org.tinylog.Logger;
 
 import minicraft.core.Game;
+import minicraft.graphic.Screen;
 import minicraft.screen.entry.ArrayEntry;
 import minicraft.screen.entry.BooleanEntry;
 import minicraft.screen.entry.RangeEntry;
@@ -69,6 +70,8 @@ public class Settings {
         
         options.put("particles", new BooleanEntry("Particles", true));
         options.put("shadows", new BooleanEntry("Shadows", true));
+        options.put("parallel", new BooleanEntry("Parallel rendering", false));
+        options.get("parallel").setChangeAction(value -> Screen.parallel = (boolean) value);
         
 	}
 
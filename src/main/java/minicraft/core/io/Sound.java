@@ -2,6 +2,8 @@ package minicraft.core.io;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -28,6 +30,8 @@ public class Sound {
 	
     // Executor service to manage playing multiple clips simultaneously (yeah, im bad optimizing this :/)
     private static final ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+    private static final List<Sound> sounds = new ArrayList<>(); // Every sound, to load them in initialize()
 	
 	// Player
 	public static final Sound playerHurt 			= new Sound("/resources/sounds/mob/player/hurt.wav");
@@ -134,12 +138,23 @@ public class Sound {
 	public static final Sound genericFuse 			= new Sound("/resources/sounds/genericFuse.wav");
 	public static final Sound genericHurt 			= new Sound("/resources/sounds/genericHurt.wav");
 
+    private final String name;
     private Clip clip;
     private FloatControl volumeControl;
     private Thread soundFadeThread;
 
+    // The clips are loaded here instead of when the class is, so nothing looks for audio devices without a game window
     public static void initialize() {
     	Logger.debug("Initializing sound engine ...");
+
+        if (!isAudioOutputAvailable()) {
+            Logger.warn("No audio devices or mixer available!, sounds will not load ...");
+            return;
+        }
+
+        for (Sound sound : sounds) {
+            sound.load();
+        }
     }
     
     public static boolean isAudioOutputAvailable() {
@@ -155,11 +170,11 @@ public class Sound {
     }
 
     private Sound(String name) {
-        if (!isAudioOutputAvailable()) {
-            Logger.warn("No audio devices or mixer available!, {} will not load ...", name.substring(name.lastIndexOf('/') + 1));
-            return;
-        }
-    	
+        this.name = name;
+        sounds.add(this);
+    }
+
+    private void load() {
         if (Game.debug) Logger.debug("Loading sound clip '{}' ...", name);
 
         try {
@@ -221,7 +236,7 @@ public class Sound {
     public void playOnLevel(int x, int y) {
         Player player = Game.levels[Game.currentLevel].getClosestPlayer(x, y);
         
-        if (!Settings.getBoolean("sound") || player == null) {
+        if (!Settings.getBoolean("sound") || player == null || clip == null) {
             return;
         }
 
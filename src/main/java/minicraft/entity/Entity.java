@@ -1,9 +1,9 @@
 package minicraft.entity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
 
 import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
@@ -15,6 +15,7 @@ import minicraft.graphic.Rectangle;
 import minicraft.graphic.Screen;
 import minicraft.item.Item;
 import minicraft.level.Level;
+import minicraft.level.tile.Tile;
 import minicraft.network.Network;
 
 public abstract class Entity implements Tickable {
@@ -36,6 +37,42 @@ public abstract class Entity implements Tickable {
 	/** Random value for all the entities instances **/
     protected static final Random random = new Random();
 
+    /**
+     * The entities found by the collision check in move2(), and whether each of them was
+     * touched before moving. There is one shared instance so moving doesn't allocate; a
+     * move started from inside touchedBy() gets a fresh one.
+     */
+    private static final class Contacts {
+        final ArrayList<Entity> candidates = new ArrayList<>();
+        final ArrayList<Entity> touching = new ArrayList<>();
+        boolean[] touchedBefore = new boolean[16];
+        boolean inUse;
+
+        void add(Entity entity, boolean before) {
+            if (touching.size() == touchedBefore.length) {
+                touchedBefore = Arrays.copyOf(touchedBefore, touchedBefore.length * 2);
+            }
+            touchedBefore[touching.size()] = before;
+            touching.add(entity);
+        }
+
+        void release() {
+            candidates.clear();
+            touching.clear();
+            inUse = false;
+        }
+    }
+
+    private static final Contacts sharedContacts = new Contacts();
+
+    // Mover traits, see getMoverTraits()
+    public static final int MOVER = 1; // every entity has this one
+    public static final int SWIMMER = 2;
+    public static final int WOOL_WALKER = 4;
+    public static final int FIREFLY = 8; // flies through rock and trees
+    public static final int AIR_WIZARD = 16; // flies through trees and cloud cactus
+    public static final int FURNITURE = 32; // can't be put on stairs
+
     // x, y entity coordinates on the map
     public int x;
     public int y;
@@ -66,7 +103,7 @@ public abstract class Entity implements Tickable {
 		removed = true;
 		color = 0;
 
-		eid = ThreadLocalRandom.current().nextInt();
+		eid = Network.generateUniqueEntityId();
     }
 
     public abstract void render(Screen screen); /// used to render the entity on screen.
@@ -105,6 +142,14 @@ public abstract class Entity implements Tickable {
         return area.intersects(getBounds());
     }
 
+    /**
+     * Same as {@link #isTouching(Rectangle)}, without making any rectangles.
+     * @return true if the hitbox of this entity touches the given area, edges included.
+     */
+    public boolean isTouching(int left, int top, int right, int bottom) {
+        return !(left > x + xr || x - xr > right || bottom < y - yr || y + yr < top);
+    }
+
     /** @return if this entity stops other solid entities from moving. */
     public boolean isSolid() {
         return true;
@@ -125,11 +170,32 @@ public abstract class Entity implements Tickable {
         return false;
     } 
 
+    /**
+     * What kind of mover this entity is, as a mask of the traits below. Tiles decide who may
+     * pass them from these, so moving only has to compare bits for most tiles.
+     */
+    public int getMoverTraits() {
+        int traits = MOVER;
+        if (canSwim()) traits |= SWIMMER;
+        if (canWool()) traits |= WOOL_WALKER;
+        return traits;
+    }
+
     // used for lanterns... and player? that might be about it, though, so idk if I want to put it here.
     public int getLightRadius() {
         return 0;
     }
     
+    /** @return the horizontal radius of the hitbox. */
+    public int getXRadius() {
+        return xr;
+    }
+
+    /** @return the vertical radius of the hitbox. */
+    public int getYRadius() {
+        return yr;
+    }
+
     protected void setHitboxSize(int w, int h) {
     	this.xr = w;
     	this.yr = h;
@@ -193,6 +259,8 @@ public abstract class Entity implements Tickable {
         int xt1 = ((x + xd) + xr) >> 4;
         int yt1 = ((y + yd) + yr) >> 4;
 
+        int traits = getMoverTraits();
+
         // boolean blocked = false; // If the next tile can block you.
         for (int yt = yt0; yt <= yt1; yt++) { // Cycles through y's of tile after movement
             for (int xt = xt0; xt <= xt1; xt++) { // Cycles through x's of tile after movement
@@ -201,25 +269,63 @@ public abstract class Entity implements Tickable {
                 }
                 
                 // Tile positions that make it here are the ones that the entity will be in, but are not in now.
-                if (interact) {
-                    level.getTile(xt, yt).bumpedInto(level, xt, yt, this); // Used in tiles like cactus
+                Tile tile = level.getTile(xt, yt);
+                if (interact && tile.bumps()) {
+                    tile.bumpedInto(level, xt, yt, this); // Used in tiles like cactus
+                    tile = level.getTile(xt, yt);
                 }
                 
-                if (!level.getTile(xt, yt).mayPass(level, xt, yt, this)) { // If the entity can't pass this tile...
+                // Most tiles only need the traits; doors and the like are asked
+                if (tile.passesByTraits() ? !tile.mayPass(traits) : !tile.mayPass(level, xt, yt, this)) { // If the entity can't pass this tile...
                     // blocked = true; // Then the entity is blocked
                     return false;
                 }
             }
         }
 
-        // These lists are named as if the entity has already moved-- it hasn't, though.
-        List<Entity> wasInside = level.getEntitiesInRect(getBounds()); // Gets all of the entities that are inside this entity (aka: colliding) before moving.
-        int xr = this.xr;
-        int yr = this.yr;
+        Contacts contacts = sharedContacts.inUse ? new Contacts() : sharedContacts;
+        contacts.inUse = true;
+        try {
+            if (!collide(xd, yd, interact, contacts)) {
+                return false;
+            }
+        } finally {
+            contacts.release();
+        }
+
+        // Finally, the entity moves!
+        x += xd;
+        y += yd;
+        level.entityMoved(this);
+
+        return true; // the move was successful.
+    }
+
+    /**
+     * Touches the entities this one would be inside after moving, and checks if any
+     * of the ones it wasn't already inside block it.
+     * 
+     * @return true if no entity blocks the move.
+     */
+    private boolean collide(int xd, int yd, boolean interact, Contacts contacts) {
+        // Hitbox before moving, and after moving
+        int left = x - xr, top = y - yr, right = x + xr, bottom = y + yr;
+        int newLeft = left + xd, newTop = top + yd, newRight = right + xd, newBottom = bottom + yd;
+
+        // Broad phase: only the entities that the level has near both hitboxes.
+        level.collectEntitiesNear(Math.min(left, newLeft), Math.min(top, newTop), Math.max(right, newRight), Math.max(bottom, newBottom), contacts.candidates);
+
+        // Gets the entities that are inside this entity (aka: colliding) after moving, and if they already were before.
+        for (int i = 0; i < contacts.candidates.size(); i++) {
+            Entity entity = contacts.candidates.get(i);
+            if (entity.isTouching(newLeft, newTop, newRight, newBottom)) {
+                contacts.add(entity, entity.isTouching(left, top, right, bottom));
+            }
+        }
 
-        List<Entity> isInside = level.getEntitiesInRect(new Rectangle(x + xd, y + yd, xr * 2, yr * 2, Rectangle.CENTER_DIMS)); // Gets the entities                                                                                        // moved.
         if (interact) {
-            for (Entity entity : isInside) {
+            for (int i = 0; i < contacts.touching.size(); i++) {
+                Entity entity = contacts.touching.get(i);
                 /// Cycles through entities about to be touched, and calls touchedBy(this) for each of them.
                 if (entity == this) {
                     continue; // Touching yourself doesn't count.
@@ -235,21 +341,17 @@ public abstract class Entity implements Tickable {
             }
         }
 
-        isInside.removeAll(wasInside); // Remove all the entities that this one is already touching before moving.
-        for (Entity entity : isInside) {
-            if (entity == this) {
-                continue; // Can't interact with yourself
+        for (int i = 0; i < contacts.touching.size(); i++) {
+            Entity entity = contacts.touching.get(i);
+            if (entity == this || contacts.touchedBefore[i]) {
+                continue; // Can't interact with yourself, and the ones this is already touching before moving don't count.
             }
             if (entity.blocks(this)) {
                 return false; // If the entity prevents this one from movement, don't move.
             }
         }
 
-        // Finally, the entity moves!
-        x += xd;
-        y += yd;
-
-        return true; // the move was successful.
+        return true;
     }
 
     /**
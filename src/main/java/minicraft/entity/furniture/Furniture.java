@@ -148,4 +148,9 @@ public class Furniture extends Entity {
     public boolean canWool() {
         return true;
     }
+
+    @Override
+    public int getMoverTraits() {
+        return super.getMoverTraits() | FURNITURE;
+    }
 }
\ No newline at end of file
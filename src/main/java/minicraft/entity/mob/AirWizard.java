@@ -100,6 +100,11 @@ public class AirWizard extends EnemyMob {
         return true;
     }
 
+    @Override
+    public int getMoverTraits() {
+        return super.getMoverTraits() | AIR_WIZARD;
+    }
+
     @Override
     public void tick() {
         super.tick();
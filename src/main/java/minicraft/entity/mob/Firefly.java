@@ -85,6 +85,11 @@ public class Firefly extends FlyMob {
         return true;
     }
 
+    @Override
+    public int getMoverTraits() {
+        return super.getMoverTraits() | FIREFLY;
+    }
+
 	@Override
 	public boolean isSolid() {
 		return false;
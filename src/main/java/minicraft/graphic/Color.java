@@ -116,13 +116,13 @@ public class Color {
 	public static int tint(int color, int amount, boolean isSpriteCol) {
 		if (isSpriteCol) {
 
-			// this just separates the four 8-bit sprite colors; they are still in base-6 added form.
-			int[] rgbBytes = separateEncodedSprite(color); 
-			for (int i = 0; i < rgbBytes.length; i++) {
-				rgbBytes[i] = tint(rgbBytes[i], amount);
+			// tints each of the four 8-bit sprite colors on its own; they are still in base-6 added form.
+			int tinted = 0;
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				tinted |= tint((color >> shift) & 0xFF, amount) << shift;
 			}
 
-			return rgbBytes[0] << 24 | rgbBytes[1] << 16 | rgbBytes[2] << 8 | rgbBytes[3]; // this is: rgb4Sprite
+			return tinted; // this is: rgb4Sprite
 
 		} else {
 			return tint(color, amount); // this is: rgbByte
@@ -134,13 +134,12 @@ public class Color {
 			return 255; // see description of bit shifting above; it will hold the 255 value, not -1
 		}
 
-		// this returns the rgb values as 0-5 numbers.
-		int[] rgb = decodeRGB(rgbByte); 
-		for (int i = 0; i < rgb.length; i++) {
-			rgb[i] = limit(rgb[i] + amount, 0, 5);
-		}
+		// the rgb values as 0-5 numbers, like decodeRGB() gives them.
+		int r = limit((rgbByte / 36) % 6 + amount, 0, 5);
+		int g = limit((rgbByte / 6) % 6 + amount, 0, 5);
+		int b = limit(rgbByte % 6 + amount, 0, 5);
 
-		return rgb[0] * 36 + rgb[1] * 6 + rgb[2]; // this is: rgbByte
+		return r * 36 + g * 6 + b; // this is: rgbByte
 	}
 
 	/**
@@ -180,8 +179,7 @@ public class Color {
 	}
 
 	public static int unGet(int rgbByte) { // rgbByte -> rgbReadable
-		int[] cols = decodeRGB(rgbByte);
-		return cols[0] * 100 + cols[1] * 10 + cols[2];
+		return (rgbByte / 36) % 6 * 100 + (rgbByte / 6) % 6 * 10 + rgbByte % 6;
 	}
 
 	/// this turns a 25-bit minicraft color into a 24-bit rgb color.
@@ -190,18 +188,34 @@ public class Color {
 		return rgbMinicraft & 0xFF_FF_FF;
 	}
 
-	protected static int tintColor(int rgbInt, int amount) {
-		if (rgbInt < 0) {
-			return rgbInt; // this is "transparent".
+	// For every amount from -255 to 255, what each 0-255 color component becomes when tinted by it; made when first needed
+	private static final int[][] tintTables = new int[511][];
+
+	/** @return what each 0-255 color component becomes when tinted by the given amount. Don't modify it. */
+	protected static int[] tintTable(int amount) {
+		amount = limit(amount, -255, 255); // anything past that gives the same as 255
+		int[] table = tintTables[amount + 255];
+		if (table == null) {
+			table = new int[256];
+			for (int i = 0; i < 256; i++) {
+				table[i] = limit(i + amount, 0, 255);
+			}
+			tintTables[amount + 255] = table;
 		}
+		return table;
+	}
 
-		int[] comps = decodeRGBColor(rgbInt);
+	protected static int tintColor(int rgbInt, int amount) {
+		return tintColor(rgbInt, tintTable(amount));
+	}
 
-		for (int i = 0; i < comps.length; i++) {
-			comps[i] = limit(comps[i] + amount, 0, 255);
+	/** Same as tintColor(rgbInt, amount), with the table of tintTable(amount). */
+	protected static int tintColor(int rgbInt, int[] table) {
+		if (rgbInt < 0) {
+			return rgbInt; // this is "transparent".
 		}
 
-		return comps[0] << 16 | comps[1] << 8 | comps[2];
+		return table[(rgbInt >> 16) & 0xFF] << 16 | table[(rgbInt >> 8) & 0xFF] << 8 | table[rgbInt & 0xFF];
 	}
 
 	public static int[] decodeRGBColor(int rgbInt) {
@@ -18,7 +18,19 @@ public class ConnectorSprite {
 	 * 
 	 */
 
+	// Bits of a connection mask, one per neighbour the tile connects to
+	public static final int UP = 1, DOWN = 2, LEFT = 4, RIGHT = 8;
+	public static final int UP_LEFT = 16, DOWN_LEFT = 32, UP_RIGHT = 64, DOWN_RIGHT = 128;
+
+	// Which sprite and which pixel of it each quarter of the tile uses, for every connection mask
+	private static final int SPARSE = 0, SIDES = 1, FULL = 2;
+	private static final byte[] QUARTERS = makeQuarters(false);
+	private static final byte[] QUARTERS_WITH_CORNERS = makeQuarters(true);
+
+	private static int nextId = 1;
+
 	public Sprite sparse, sides, full;
+	public final int id; // Tells connector sprites apart in the connection cache of a level
 	private Class<? extends Tile> owner;
 	private boolean checkCorners;
 
@@ -27,6 +39,7 @@ public class ConnectorSprite {
 	}
 
 	public ConnectorSprite(Class<? extends Tile> owner, Sprite sparse, Sprite sides, Sprite full, boolean cornersMatter) {
+		this.id = nextId++;
 		this.owner = owner;
 		this.sparse = sparse;
 		this.sides = sides;
@@ -45,52 +58,82 @@ public class ConnectorSprite {
 	public void render(Screen screen, Level level, int x, int y, int whiteTint) {
 		// System.out.println("rendering sprite for tile " + owner);
 
-		Tile upTile = level.getTile(x, y - 1);
-		Tile downTile = level.getTile(x, y + 1);
-		Tile leftTile = level.getTile(x - 1, y);
-		Tile rightTile = level.getTile(x + 1, y);
-
-		boolean up = connectsToDoEdgeCheck(upTile, true);
-		boolean down = connectsToDoEdgeCheck(downTile, true);
-		boolean left = connectsToDoEdgeCheck(leftTile, true);
-		boolean right = connectsToDoEdgeCheck(rightTile, true);
-
-		boolean upLeft = connectsToDoEdgeCheck(level.getTile(x - 1, y - 1), false);
-		boolean downLeft = connectsToDoEdgeCheck(level.getTile(x - 1, y + 1), false);
-		boolean upRight = connectsToDoEdgeCheck(level.getTile(x + 1, y - 1), false);
-		boolean downRight = connectsToDoEdgeCheck(level.getTile(x + 1, y + 1), false);
+		int mask = level.getConnections(this, x, y);
+		byte[] quarters = checkCorners ? QUARTERS_WITH_CORNERS : QUARTERS;
 
 		x <<= 4;
 		y <<= 4;
 
-		if (up && left) {
-			if (upLeft || !checkCorners) full.renderPixel(0, 0, screen, x, y);
-			else sides.renderPixel(1, 1, screen, x, y);
-		} else {
-			sparse.renderPixel(left ? 1 : 0, up ? 1 : 0, screen, x, y);
-		}
+		renderQuarter(quarters[mask << 2], screen, x, y);
+		renderQuarter(quarters[(mask << 2) + 1], screen, x + 8, y);
+		renderQuarter(quarters[(mask << 2) + 2], screen, x, y + 8);
+		renderQuarter(quarters[(mask << 2) + 3], screen, x + 8, y + 8);
+	}
 
-		if (up && right) {
-			if (upRight || !checkCorners) full.renderPixel(1, 0, screen, x + 8, y);
-			else sides.renderPixel(0, 1, screen, x + 8, y);
-		} else {
-			sparse.renderPixel(right ? 1 : 2, up ? 1 : 0, screen, x + 8, y);
-		}
+	private void renderQuarter(byte quarter, Screen screen, int x, int y) {
+		Sprite sprite = (quarter >> 4) == FULL ? full : ((quarter >> 4) == SIDES ? sides : sparse);
+		sprite.renderPixel((quarter >> 2) & 3, quarter & 3, screen, x, y);
+	}
 
-		if (down && left) {
-			if (downLeft || !checkCorners) full.renderPixel(0, 1, screen, x, y + 8);
-			else sides.renderPixel(1, 0, screen, x, y + 8);
-		} else {
-			sparse.renderPixel(left ? 1 : 0, down ? 1 : 2, screen, x, y + 8);
-		}
+	/** @return the connection mask of this sprite at the given tile, worked out from its neighbours. */
+	public int getConnections(Level level, int x, int y) {
+		int mask = 0;
+		if (connectsToDoEdgeCheck(level.getTile(x, y - 1), true)) mask |= UP;
+		if (connectsToDoEdgeCheck(level.getTile(x, y + 1), true)) mask |= DOWN;
+		if (connectsToDoEdgeCheck(level.getTile(x - 1, y), true)) mask |= LEFT;
+		if (connectsToDoEdgeCheck(level.getTile(x + 1, y), true)) mask |= RIGHT;
+
+		if (connectsToDoEdgeCheck(level.getTile(x - 1, y - 1), false)) mask |= UP_LEFT;
+		if (connectsToDoEdgeCheck(level.getTile(x - 1, y + 1), false)) mask |= DOWN_LEFT;
+		if (connectsToDoEdgeCheck(level.getTile(x + 1, y - 1), false)) mask |= UP_RIGHT;
+		if (connectsToDoEdgeCheck(level.getTile(x + 1, y + 1), false)) mask |= DOWN_RIGHT;
+		return mask;
+	}
 
-		if (down && right) {
-			if (downRight || !checkCorners) full.renderPixel(1, 1, screen, x + 8, y + 8);
-			else sides.renderPixel(0, 0, screen, x + 8, y + 8);
-		} else {
-			sparse.renderPixel(right ? 1 : 2, down ? 1 : 2, screen, x + 8, y + 8);
-		}
+	private static byte quarter(int sprite, int px, int py) {
+		return (byte) (sprite << 4 | px << 2 | py);
+	}
+
+	/** Works out once, for each connection mask, how the four quarters of a tile get drawn. */
+	private static byte[] makeQuarters(boolean checkCorners) {
+		byte[] quarters = new byte[256 * 4];
+		for (int mask = 0; mask < 256; mask++) {
+			boolean up = (mask & UP) != 0;
+			boolean down = (mask & DOWN) != 0;
+			boolean left = (mask & LEFT) != 0;
+			boolean right = (mask & RIGHT) != 0;
+			boolean upLeft = (mask & UP_LEFT) != 0;
+			boolean downLeft = (mask & DOWN_LEFT) != 0;
+			boolean upRight = (mask & UP_RIGHT) != 0;
+			boolean downRight = (mask & DOWN_RIGHT) != 0;
+
+			int i = mask << 2;
+
+			if (up && left) {
+				quarters[i] = upLeft || !checkCorners ? quarter(FULL, 0, 0) : quarter(SIDES, 1, 1);
+			} else {
+				quarters[i] = quarter(SPARSE, left ? 1 : 0, up ? 1 : 0);
+			}
 
+			if (up && right) {
+				quarters[i + 1] = upRight || !checkCorners ? quarter(FULL, 1, 0) : quarter(SIDES, 0, 1);
+			} else {
+				quarters[i + 1] = quarter(SPARSE, right ? 1 : 2, up ? 1 : 0);
+			}
+
+			if (down && left) {
+				quarters[i + 2] = downLeft || !checkCorners ? quarter(FULL, 0, 1) : quarter(SIDES, 1, 0);
+			} else {
+				quarters[i + 2] = quarter(SPARSE, left ? 1 : 0, down ? 1 : 2);
+			}
+
+			if (down && right) {
+				quarters[i + 3] = downRight || !checkCorners ? quarter(FULL, 1, 1) : quarter(SIDES, 0, 0);
+			} else {
+				quarters[i + 3] = quarter(SPARSE, right ? 1 : 2, down ? 1 : 2);
+			}
+		}
+		return quarters;
 	}
 
 	// it is expected that some tile classes will override this on class instantiation.
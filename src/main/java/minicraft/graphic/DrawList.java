@@ -0,0 +1,144 @@
+package minicraft.graphic;
+
+import java.util.Arrays;
+
+/**
+ * The drawing that a screen did while it was recording, kept as plain numbers so another
+ * thread can draw it again later, with {@link Screen#replay}, without looking at the
+ * entities or menus that drew it.
+ *
+ * The positions are screen positions at the time of recording. The list is split in
+ * parts, each with how far back the things in it moved since they were last recorded, so
+ * the replay can put every part somewhere in between. Once finish() is called the list
+ * doesn't change anymore.
+ */
+public final class DrawList {
+
+	static final int SPRITE = 0; // x, y, xTile, yTile, bits, sheet, whiteTint, fullbright, color
+	static final int RECT = 1; // x, y, width, height, color
+	static final int BLEND = 2; // x, y, width, height, color, opacity bits
+	static final int PIXEL = 3; // x, y, color
+	static final int CLEAR = 4; // color
+
+	private int[] ops = new int[256];
+	private int size = 0;
+
+	// Where every part starts in ops, and how far back its things moved
+	private int[] parts = new int[12];
+	private int partCount = 0;
+
+	private boolean finished = false;
+
+	public DrawList() {
+		beginPart(0, 0); // whatever is drawn before the first part didn't move
+	}
+
+	/** Starts a new part, of things that were dx, dy pixels away the last time. */
+	public void beginPart(int dx, int dy) {
+		checkOpen();
+		if (partCount * 3 == parts.length) {
+			parts = Arrays.copyOf(parts, parts.length * 2);
+		}
+		parts[partCount * 3] = size;
+		parts[partCount * 3 + 1] = dx;
+		parts[partCount * 3 + 2] = dy;
+		partCount++;
+	}
+
+	/** Stops any more drawing from being added, and drops the room that was left for it. */
+	public void finish() {
+		finished = true;
+		ops = Arrays.copyOf(ops, size);
+		parts = Arrays.copyOf(parts, partCount * 3);
+	}
+
+	void sprite(int x, int y, int xTile, int yTile, int bits, int sheet, int whiteTint, boolean fullbright, int color) {
+		reserve(10);
+		ops[size++] = SPRITE;
+		ops[size++] = x;
+		ops[size++] = y;
+		ops[size++] = xTile;
+		ops[size++] = yTile;
+		ops[size++] = bits;
+		ops[size++] = sheet;
+		ops[size++] = whiteTint;
+		ops[size++] = fullbright ? 1 : 0;
+		ops[size++] = color;
+	}
+
+	void rect(int x, int y, int width, int height, int color) {
+		reserve(6);
+		ops[size++] = RECT;
+		ops[size++] = x;
+		ops[size++] = y;
+		ops[size++] = width;
+		ops[size++] = height;
+		ops[size++] = color;
+	}
+
+	void blend(int x, int y, int width, int height, int color, float opacity) {
+		reserve(7);
+		ops[size++] = BLEND;
+		ops[size++] = x;
+		ops[size++] = y;
+		ops[size++] = width;
+		ops[size++] = height;
+		ops[size++] = color;
+		ops[size++] = Float.floatToIntBits(opacity);
+	}
+
+	void pixel(int x, int y, int color) {
+		reserve(4);
+		ops[size++] = PIXEL;
+		ops[size++] = x;
+		ops[size++] = y;
+		ops[size++] = color;
+	}
+
+	void clear(int color) {
+		reserve(2);
+		ops[size++] = CLEAR;
+		ops[size++] = color;
+	}
+
+	private void reserve(int count) {
+		checkOpen();
+		if (size + count > ops.length) {
+			ops = Arrays.copyOf(ops, Math.max(ops.length * 2, size + count));
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	int get(int index) {
+		return ops[index];
+	}
+
+	int partCount() {
+		return partCount;
+	}
+
+	int partStart(int part) {
+		return parts[part * 3];
+	}
+
+	int partEnd(int part) {
+		return part + 1 < partCount ? parts[(part + 1) * 3] : size;
+	}
+
+	int partDx(int part) {
+		return parts[part * 3 + 1];
+	}
+
+	int partDy(int part) {
+		return parts[part * 3 + 2];
+	}
+
+	private void checkOpen() {
+		if (finished) {
+			throw new IllegalStateException("The draw list was already finished");
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package minicraft.graphic;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import minicraft.core.Renderer;
 import minicraft.core.Updater;
@@ -22,12 +24,28 @@ public class Screen {
 	private static final int BIT_MIRROR_Y = 0x02; // Binary: 10
 
 	public int[] pixels; // Pixels on the screen
+	private final int width, height; // Size of the pixels array; w and h, except for offscreen screens
 
 	// Since each sheet is 256x256 pixels, each one has 1024 8x8 "tiles"
 	// So 0 is the start of the item sheet 1024 the start of the tile sheet, 2048 the start of the entity sheet,
 	// And 3072 the start of the gui sheet
 
 	private SpriteSheet[] sheets;
+	private int sheetChanges = 0;
+
+	private DrawList recording; // Where the drawing goes instead of the pixels, if not null
+
+	// If the passes over the whole screen (clearing, light, overlay, darkness) get split in
+	// bands of rows over all the cores. Every pixel still gets the exact same value.
+	public static boolean parallel = false;
+
+	private static final int BANDS = Runtime.getRuntime().availableProcessors();
+	private static ForkJoinPool pool; // Made the first time a pass runs in parallel
+
+	/** A part of a pass over the screen, that only touches the rows from top up to bottom. */
+	private interface Band {
+		void render(int top, int bottom);
+	}
 
 	public Screen(SpriteSheet itemSheet, SpriteSheet tileSheet, SpriteSheet entitySheet, SpriteSheet guiSheet, SpriteSheet fontSheet, SpriteSheet background) {
 
@@ -37,12 +55,22 @@ public class Screen {
 
 		/// Screen width and height are determined by the actual game window size, meaning the screen is only as big as the window.
 		pixels = new int[Screen.w * Screen.h]; // Makes new integer array for all the pixels on the screen.
+		width = Screen.w;
+		height = Screen.h;
 	}
 
 	public Screen(Screen model) {
 		this(model.sheets[0], model.sheets[1], model.sheets[2], model.sheets[3], model.sheets[4], model.sheets[5]);
 	}
 
+	/** Makes an offscreen screen that draws with the sheets of the model into the given pixels. */
+	public Screen(Screen model, int[] pixels, int width, int height) {
+		sheets = model.sheets.clone();
+		this.pixels = pixels;
+		this.width = width;
+		this.height = height;
+	}
+
 	public void setSheet(SpriteSheet itemSheet, SpriteSheet tileSheet, SpriteSheet entitySheet, SpriteSheet guiSheet, SpriteSheet fontSheet, SpriteSheet background) {
 		sheets[0] = itemSheet != null ? itemSheet : sheets[0];
 		sheets[1] = tileSheet != null ? tileSheet : sheets[1];
@@ -50,12 +78,124 @@ public class Screen {
 		sheets[3] = guiSheet != null ? guiSheet : sheets[3];
 		sheets[4] = fontSheet != null ? fontSheet : sheets[4];
 		sheets[5] = background != null ? background : sheets[5];
+		sheetChanges++;
+	}
+
+	/** Takes over the sprite sheets of another screen, for one that draws the same things on another thread. */
+	public void setSheets(Screen model) {
+		sheets = model.sheets.clone();
+		sheetChanges++;
+	}
+
+	/** @return a counter that changes every time the sprite sheets are swapped, like for a texture pack. */
+	public int getSheetChanges() {
+		return sheetChanges;
 	}
 
 	/** Clears all the colors on the screen */
 	public void clear(int color) {
+		if (recording != null) {
+			recording.clear(color);
+			return;
+		}
+
 		// Turns each pixel into a single color (clearing the screen!)
-		Arrays.fill(pixels, color);
+		if (pixels.length != width * height) {
+			Arrays.fill(pixels, color);
+			return;
+		}
+		forEachBand(height, (top, bottom) -> Arrays.fill(pixels, top * width, bottom * width, color));
+	}
+
+	/**
+	 * Runs a pass over the given number of rows. With parallel on, the rows are split in a
+	 * band per core and the bands run at the same time, this thread doing the first one.
+	 */
+	private static void forEachBand(int rows, Band band) {
+		if (!parallel || BANDS < 2 || rows < BANDS * 8) {
+			band.render(0, rows);
+			return;
+		}
+
+		if (pool == null) {
+			pool = new ForkJoinPool(BANDS);
+		}
+
+		ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[BANDS - 1];
+		for (int i = 1; i < BANDS; i++) {
+			int top = rows * i / BANDS;
+			int bottom = rows * (i + 1) / BANDS;
+			tasks[i - 1] = pool.submit(() -> band.render(top, bottom));
+		}
+		band.render(0, rows / BANDS);
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+	}
+
+	/**
+	 * Makes the drawing go into the list instead of the pixels, until this is called with
+	 * null. The sprites, colored rectangles, single pixels and clearing get recorded, which is
+	 * all that entities, the gui and the menus draw with.
+	 */
+	public void record(DrawList list) {
+		recording = list;
+	}
+
+	public boolean isRecording() {
+		return recording != null;
+	}
+
+	/** Starts a new part of the recording, of things that were dx, dy pixels away the last time. */
+	public void beginPart(int dx, int dy) {
+		if (recording != null) {
+			recording.beginPart(dx, dy);
+		}
+	}
+
+	/**
+	 * Draws what was recorded into the list, with every part moved by xShift, yShift plus
+	 * the given share (0 to 1) of how far back the things in it moved.
+	 */
+	public void replay(DrawList list, int xShift, int yShift, double back) {
+		int xOffset = this.xOffset, yOffset = this.yOffset;
+
+		for (int part = 0; part < list.partCount(); part++) {
+			int xs = xShift + (int) Math.rint(list.partDx(part) * back);
+			int ys = yShift + (int) Math.rint(list.partDy(part) * back);
+			setOffset(-xs, -ys); // the recorded positions already had the offset taken off
+
+			int i = list.partStart(part);
+			int end = list.partEnd(part);
+			while (i < end) {
+				switch (list.get(i)) {
+					case DrawList.SPRITE:
+						render(list.get(i + 1), list.get(i + 2), list.get(i + 3), list.get(i + 4), list.get(i + 5), list.get(i + 6), list.get(i + 7), list.get(i + 8) != 0, list.get(i + 9));
+						i += 10;
+						break;
+					case DrawList.RECT:
+						renderColor(list.get(i + 1), list.get(i + 2), list.get(i + 3), list.get(i + 4), list.get(i + 5));
+						i += 6;
+						break;
+					case DrawList.BLEND:
+						renderColor(list.get(i + 1), list.get(i + 2), list.get(i + 3), list.get(i + 4), list.get(i + 5), Float.intBitsToFloat(list.get(i + 6)));
+						i += 7;
+						break;
+					case DrawList.PIXEL:
+						setPixel(list.get(i + 1) + xs, list.get(i + 2) + ys, list.get(i + 3));
+						i += 4;
+						break;
+					case DrawList.CLEAR:
+						clear(list.get(i + 1));
+						i += 2;
+						break;
+					default:
+						throw new IllegalStateException("Unknown draw list entry " + list.get(i));
+				}
+			}
+		}
+
+		setOffset(xOffset, yOffset);
 	}
 
 	public void render(int[] pixelColors) {
@@ -121,20 +261,25 @@ public class Screen {
 		xp -= xOffset;
 		yp -= yOffset;
 
+		if (recording != null) {
+			recording.rect(xp, yp, width, height, color);
+			return;
+		}
+
 		// Loop through each pixel in the rectangle
 		for (int x = 0; x < width; x++) {
 			// Skip any pixels that fall outside the bounds of the pixel array
-			if (x + width < 0 || x + width > w) {
+			if (x + width < 0 || x + width > this.width) {
 				continue;
 			}
 			
 			for (int y = 0; y < height; y++) {
-				if (y + height < 0 || y + height > h) {
+				if (y + height < 0 || y + height > this.height) {
 					continue;
 				}
 
 				// Calculate the index of the pixel in the pixel array and set its color
-				pixels[(x + xp) + (y + yp) * w] = color;
+				pixels[(x + xp) + (y + yp) * this.width] = color;
 			}
 		}
 	}
@@ -153,19 +298,24 @@ public class Screen {
 		xp -= xOffset;
 		yp -= yOffset;
 
+		if (recording != null) {
+			recording.blend(xp, yp, width, height, color, opacity);
+			return;
+		}
+
 		for (int x = 0; x < width; x++) { // Loop through each pixel in the rectangle
 			
 			// Skip any pixels that fall outside the bounds of the pixel array
-			if (x + width < 0 || x + width > w) {
+			if (x + width < 0 || x + width > this.width) {
 				continue;
 			}
 			
 			for (int y = 0; y < height; y++) {
-				if (y + height < 0 || y + height > h) {
+				if (y + height < 0 || y + height > this.height) {
 					continue;
 				}
 
-				int index = (x + xp) + (y + yp) * w; // Calculate the index of the pixel in the pixel array
+				int index = (x + xp) + (y + yp) * this.width; // Calculate the index of the pixel in the pixel array
 				int pixelColor = pixels[index];
 				
 				// Set the pixel color in the pixel array
@@ -176,81 +326,112 @@ public class Screen {
 
 	/** Renders an object from the sprite sheet based on screen coordinates, tile (SpriteSheet location), colors, and bits (for mirroring).
 	 *  I believe that xp and yp refer to the desired position of the upper-left-most pixel. 
+	 *
+	 *  The sheet hands over the box already decoded and mirrored, with a mask of the pixels to
+	 *  draw; the kernels below only go over the set bits, so no pixel gets tested on its own.
 	 */
 	private void render(int xp, int yp, int xTile, int yTile, int bits, int sheet, int whiteTint, boolean fullbright, int color) {
 	    // xp and yp are originally in level coordinates, but offset turns them to screen coordinates.
 	    xp -= xOffset; // account for screen offset
 	    yp -= yOffset;
 
-	    // determines if the image should be mirrored...
-	    boolean mirrorX = (bits & BIT_MIRROR_X) > 0; // horizontally.
-	    boolean mirrorY = (bits & BIT_MIRROR_Y) > 0; // vertically.
+	    if (recording != null) {
+	        recording.sprite(xp, yp, xTile, yTile, bits, sheet, whiteTint, fullbright, color);
+	        return;
+	    }
+
+	    if (xp >= width || yp >= height || xp <= -8 || yp <= -8) {
+	        return; // nothing of it is on the screen
+	    }
 
 	    SpriteSheet currentSheet = sheets[sheet];
+	    int box = currentSheet.box(xTile, yTile, bits & (BIT_MIRROR_X | BIT_MIRROR_Y));
+	    long mask = currentSheet.boxOpaque(box) & clipMask(xp, yp);
+	    int position = xp + yp * width; // where the top left pixel goes, which can be off the screen
+
+	    if (whiteTint != -1) {
+	        // if this is white, write the whiteTint over it
+	        long white = mask & currentSheet.boxWhite(box);
+	        fill(position, white, Color.upgrade(whiteTint));
+	        mask &= ~white;
+	    }
+
+	    if (fullbright) {
+	        fill(position, mask, Color.WHITE); // mob color when hit
+	    } else if (color != 0) {
+	        fill(position, mask, color); // full sprite color
+	    } else if (mask == -1L) {
+	        copy(position, currentSheet.boxColors(box)); // all of it is there, and on the screen
+	    } else {
+	        copy(position, mask, currentSheet.boxColors(box));
+	    }
+	}
 
-	    xTile %= currentSheet.width; // to avoid out of bounds
-	    yTile %= currentSheet.height; // ^
+	/** @return a mask of the pixels of a box at the given screen coordinates that are on the screen. */
+	private long clipMask(int xp, int yp) {
+	    if (xp >= 0 && yp >= 0 && xp + 8 <= width && yp + 8 <= height) {
+	        return -1L;
+	    }
+
+	    int columns = 0xFF;
+	    if (xp < 0) columns &= 0xFF << -xp;
+	    if (xp + 8 > width) columns &= 0xFF >>> (xp + 8 - width);
+	    long mask = (columns & 0xFFL) * 0x0101010101010101L; // the same columns in every row
+	    if (yp < 0) mask &= -1L << (-yp * 8);
+	    if (yp + 8 > height) mask &= -1L >>> ((yp + 8 - height) * 8);
+	    return mask;
+	}
 
-	    // Gets the offset of the sprite into the spritesheet
-	    // pixel array, the 8's represent the size of the box.
-	    // (8 by 8 pixel sprite boxes)
-	    int toffs = xTile * 8 + yTile * 8 * currentSheet.width; 
+	/** Copies a whole box onto the screen, row by row. */
+	private void copy(int position, int[] colors) {
+	    for (int y = 0; y < 8; y++) {
+	        System.arraycopy(colors, y << 3, pixels, position + y * width, 8);
+	    }
+	}
 
-	    // Precompute values outside of loop
-	    int yLimit = yp + 8;
-	    int xLimit = xp + 8;
+	/** Copies the pixels of a box that have their bit set in the mask. */
+	private void copy(int position, long mask, int[] colors) {
 	    int[] pixels = this.pixels;
-	    int[] sheetPixels = currentSheet.pixels;
-
-	    for (int y = yp; y < yLimit; y++) {
-	        // If the pixel is out of bounds, then skip the rest of the loop.
-	        if (y < 0 || y >= h) {
-	            continue;
-	        }
-	        for (int x = xp; x < xLimit; x++) {
-	            // If the pixel is out of bounds, then skip the rest of the loop.
-	            if (x < 0 || x >= w) {
-	                continue;
-	            }
-
-	            int xs = x - xp;
-	            int ys = y - yp;
-
-	            // Reverses the pixel for a mirroring effect if necessary
-	            if (mirrorX) {
-	                xs = 7 - xs;
-	            }
-	            if (mirrorY) {
-	                ys = 7 - ys;
-	            }
-
-	            // Gets the color of the current pixel from the value stored in the sheet.
-	            int spriteColor = sheetPixels[toffs + xs + ys * currentSheet.width];
-
-	            // Check if the pixel is transparent
-	            if ((spriteColor >> 24) != 0) {
-	                int position = x + y * w;
-
-	                if (whiteTint != -1 && spriteColor == 0x1FFFFFF) {
-	                    // if this is white, write the whiteTint over it
-	                    pixels[position] = Color.upgrade(whiteTint);
-	                } else {
-	                    // Inserts the colors into the image
-	                    if (fullbright) {
-	                        pixels[position] = Color.WHITE; // mob color when hit
-	                    } else {
-	                        if (color != 0) { // full sprite color
-	                            pixels[position] = color;
-	                        } else {
-	                            pixels[position] = Color.upgrade(spriteColor);
-	                        }
-	                    }
-	                }
-	            }
-	        }
+	    int w = width;
+	    while (mask != 0) {
+	        int i = Long.numberOfTrailingZeros(mask);
+	        mask &= mask - 1;
+	        pixels[position + (i & 7) + (i >> 3) * w] = colors[i];
 	    }
 	}
 
+	/** Sets the pixels of a box that have their bit set in the mask to one color. */
+	private void fill(int position, long mask, int color) {
+	    int[] pixels = this.pixels;
+	    int w = width;
+	    while (mask != 0) {
+	        int i = Long.numberOfTrailingZeros(mask);
+	        mask &= mask - 1;
+	        pixels[position + (i & 7) + (i >> 3) * w] = color;
+	    }
+	}
+
+	/** Like blit(), but for light levels: every pixel keeps the brighter of the two. */
+	public void blitLight(int[] block, int blockWidth, int blockHeight, int xp, int yp) {
+		xp -= xOffset;
+		yp -= yOffset;
+
+		int x0 = Math.max(xp, 0);
+		int x1 = Math.min(xp + blockWidth, width);
+		int y0 = Math.max(yp, 0);
+		int y1 = Math.min(yp + blockHeight, height);
+
+		for (int y = y0; y < y1; y++) {
+			int from = (x0 - xp) + (y - yp) * blockWidth;
+			int to = x0 + y * width;
+			for (int i = 0; i < x1 - x0; i++) {
+				if (block[from + i] > pixels[to + i]) {
+					pixels[to + i] = block[from + i];
+				}
+			}
+		}
+	}
+
 	/** Sets the offset of the screen */
 	public void setOffset(int xOffset, int yOffset) {
 		// this is called in few places, one of which is level.renderBackground, right
@@ -295,6 +476,11 @@ public class Screen {
 
 	/** Overlays the screen with pixels */
 	public void overlay(Screen screen, int currentLevel, int xa, int ya) {
+		overlay(screen, currentLevel, xa, ya, overlayTint(currentLevel));
+	}
+
+	/** @return how much overlay() darkens the unlit pixels, at this time of the day. */
+	public static int overlayTint(int currentLevel) {
 		double tintFactor = 0;
 		if (currentLevel >= 3 && currentLevel < 5) {
 			int transTime = Updater.dayLength / 4;
@@ -317,23 +503,38 @@ public class Screen {
 			tintFactor = -MAXDARK;
 		}
 
+		return (int) tintFactor;
+	}
+
+	/** Overlays the screen with pixels, darkening the unlit ones by the given tint. */
+	public void overlay(Screen screen, int currentLevel, int xa, int ya, int tint) {
+		int[] darken = Color.tintTable(tint);
+		int[] brighten = Color.tintTable(20);
+
 		int[] overlayPixels = screen.pixels; // The Integer array of pixels to overlay the screen with.
-		int currentPixel = 0; // current pixel index on the screen
-		for (int y = 0; y < h; y++) { // loop through height of screen
-			for (int x = 0; x < w; x++) { // loop through width of screen
-				// if light level stored in oPixels is less than minimum requirement stored in dither
-				if (overlayPixels[currentPixel] / 10 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
-					// if in caves not being lit means being pitch black, outside the caves, not being lit simply means being darker.
-					pixels[currentPixel] = (currentLevel < 3) ? 0 : Color.tintColor(pixels[currentPixel], (int) tintFactor);  
+		forEachBand(h, (top, bottom) -> {
+			int currentPixel = top * w; // current pixel index on the screen
+			for (int y = top; y < bottom; y++) { // loop through height of screen
+				for (int x = 0; x < w; x++) { // loop through width of screen
+					// if light level stored in oPixels is less than minimum requirement stored in dither
+					if (overlayPixels[currentPixel] / 10 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
+						// if in caves not being lit means being pitch black, outside the caves, not being lit simply means being darker.
+						pixels[currentPixel] = (currentLevel < 3) ? 0 : Color.tintColor(pixels[currentPixel], darken);  
+					}
+					// Increase the tinting of all colors by 20.
+					pixels[currentPixel] = Color.tintColor(pixels[currentPixel], brighten);
+					currentPixel++; // move to the next pixel.
 				}
-				// Increase the tinting of all colors by 20.
-				pixels[currentPixel] = Color.tintColor(pixels[currentPixel], 20);
-				currentPixel++; // move to the next pixel.
 			}
-		}
+		});
 	}
 	
 	public void darkness(Screen screen, int currentLevel, int xa, int ya) {
+		darkness(screen, currentLevel, xa, ya, darknessTint(currentLevel));
+	}
+
+	/** @return how much darkness() darkens the unlit pixels, at this time of the day. */
+	public static int darknessTint(int currentLevel) {
 		double tintFactor = 0;
 		if (currentLevel >= 3  && currentLevel < 5) {
 			int transTime = Updater.dayLength / 4;
@@ -356,41 +557,68 @@ public class Screen {
 			//tintFactor = -MAXDARK;
 		}
 
+		return (int) tintFactor;
+	}
+
+	/** Darkens the unlit pixels of the screen by the given tint. */
+	public void darkness(Screen screen, int currentLevel, int xa, int ya, int tint) {
+		int[] darken = Color.tintTable(tint);
+		int[] brighten = Color.tintTable(20);
+
 		int[] oPixels = screen.pixels;
-		int i = 0;
-		for (int y = 0; y < h; y++) {
-			for (int x = 0; x < w; x++) {
-				if (oPixels[i] / 256 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
-					int intense = (128 + oPixels[i]) / 128;
-
-					if (currentLevel > 3) {
-						/// outside the caves, not being lit simply means being darker.
-						pixels[i] = Color.tintColor(pixels[i], (int) tintFactor); // darkens the color one shade.
+		forEachBand(h, (top, bottom) -> {
+			int i = top * w;
+			for (int y = top; y < bottom; y++) {
+				for (int x = 0; x < w; x++) {
+					if (oPixels[i] / 256 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
+						int intense = (128 + oPixels[i]) / 128;
+
+						if (currentLevel > 3) {
+							/// outside the caves, not being lit simply means being darker.
+							pixels[i] = Color.tintColor(pixels[i], darken); // darkens the color one shade.
+						}
+
+						if (intense == 5) {
+	                         pixels[i] = Color.createShadowCol(Color.tintColor(pixels[i], darken), (int)Math.min(intense, 1), 6, Math.min(intense, 1));
+						}
 					}
 
-					if (intense == 5) {
-                         pixels[i] = Color.createShadowCol(Color.tintColor(pixels[i], (int) tintFactor), (int)Math.min(intense, 1), 6, Math.min(intense, 1));
-					}
+					// increase the tinting of all colors by 20.
+					pixels[i] = Color.tintColor(pixels[i], brighten);
+					i++; // moves to the next pixel
+
 				}
+			}
+		});
+	}
 
-				// increase the tinting of all colors by 20.
-				pixels[i] = Color.tintColor(pixels[i], 20);
-				i++; // moves to the next pixel
+	public void renderLight(int x, int y, int lightRadius) {
+		renderLight(x, y, lightRadius, 0, height);
+	}
 
+	/**
+	 * Renders a batch of lights, given as x, y and radius one after the other. This gives the
+	 * same as renderLight() on each of them, since a pixel keeps the brightest light anyway.
+	 */
+	public void renderLights(int[] lights, int count) {
+		forEachBand(height, (top, bottom) -> {
+			for (int i = 0; i < count * 3; i += 3) {
+				renderLight(lights[i], lights[i + 1], lights[i + 2], top, bottom);
 			}
-		}
+		});
 	}
 
-	public void renderLight(int x, int y, int lightRadius) {
+	/** Renders the part of a light that falls in the rows from top up to bottom. */
+	private void renderLight(int x, int y, int lightRadius, int top, int bottom) {
 		// Apply the x and y offsets to the light's position (by screen scrolling)
 		x -= xOffset;
 		y -= yOffset;
 
 		// Calculate the starting and ending positions of the light circle on the x and y axis, ensuring the light does not render outside the screen
 		int x0 = Math.max(x - lightRadius, 0); // start x
-		int y0 = Math.max(y - lightRadius, 0); // start y
-		int x1 = Math.min(x + lightRadius, w); // end x
-		int y1 = Math.min(y + lightRadius, h); // end y
+		int y0 = Math.max(y - lightRadius, top); // start y
+		int x1 = Math.min(x + lightRadius, width); // end x
+		int y1 = Math.min(y + lightRadius, bottom); // end y
 
 		// Declare the distance from the center of the light circle along the y axis
 		int yd = 0;
@@ -410,20 +638,57 @@ public class Screen {
 					// Calculate the brightness of the light at the current position
 					int br = 255 - dist * 255 / (lightRadius * lightRadius);
 					// Set the pixel value to the maximum between its current value and the calculated brightness
-					pixels[xx + yy * w] = Math.max(pixels[xx + yy * w], br);
+					pixels[xx + yy * width] = Math.max(pixels[xx + yy * width], br);
 				}
 			}
 		}
 	}
 
 	public void setPixel(int xp, int yp, int color) {
+		if (recording != null) {
+			recording.pixel(xp, yp, color);
+			return;
+		}
+
 		// If the pixel is out of bounds, then skip the rest of the loop.
-		if (yp < 0 || yp >= h || xp < 0 || xp >= w) {
+		if (yp < 0 || yp >= height || xp < 0 || xp >= width) {
 			return;
 		}
 
 		if (color >> 24 != 0) {
-			pixels[xp + yp * w] = color;
+			pixels[xp + yp * width] = color;
+		}
+	}
+
+	/**
+	 * Copies a block of pixels onto the screen, at level coordinates like render(). Pixels
+	 * equal to skip are left out; with holes false, the block has none and goes row by row.
+	 */
+	public void blit(int[] block, int blockWidth, int blockHeight, int xp, int yp, boolean holes, int skip) {
+		xp -= xOffset;
+		yp -= yOffset;
+
+		int x0 = Math.max(xp, 0);
+		int x1 = Math.min(xp + blockWidth, width);
+		int y0 = Math.max(yp, 0);
+		int y1 = Math.min(yp + blockHeight, height);
+		if (x0 >= x1 || y0 >= y1) {
+			return;
+		}
+
+		for (int y = y0; y < y1; y++) {
+			int from = (x0 - xp) + (y - yp) * blockWidth;
+			int to = x0 + y * width;
+			if (!holes) {
+				System.arraycopy(block, from, pixels, to, x1 - x0);
+				continue;
+			}
+			for (int i = 0; i < x1 - x0; i++) {
+				int color = block[from + i];
+				if (color != skip) {
+					pixels[to + i] = color;
+				}
+			}
 		}
 	}
 	
@@ -9,6 +9,17 @@ public class SpriteSheet {
     public int width, height; // width and height of the sprite sheet
     public int[] pixels; // integer array of the image's pixels
 
+    /*
+     * The 8x8 boxes of the sheet, decoded the first time they're drawn: for every box and
+     * each of its 4 mirrorings (index (box << 2) | mirror bits), the colors of its 64 pixels
+     * as they end up on the screen, with a bit for each pixel that isn't transparent, and one
+     * for each pixel that is pure white (those get the white tint). Bit i is pixel (i & 7, i >> 3).
+     */
+    final int columns, rows; // number of boxes across and down
+    private final int[][] boxColors;
+    private final long[] boxOpaque;
+    private final long[] boxWhite;
+
     public SpriteSheet(BufferedImage image) {
         // sets width and height to that of the image
         width = image.getWidth();
@@ -22,5 +33,59 @@ public class SpriteSheet {
             // actually put the data in the array, uses 25 bits to store everything (8 for red, 8 for green, 8 for blue, and 1 for alpha)
             pixels[i] = (transparent << 24) | (pixels[i] & 0xff0000) | (pixels[i] & 0xff00) | (pixels[i] & 0xff);
         }
+
+        columns = Math.max(width / boxWidth, 1);
+        rows = Math.max(height / boxWidth, 1);
+        boxColors = new int[columns * rows * 4][];
+        boxOpaque = new long[columns * rows * 4];
+        boxWhite = new long[columns * rows * 4];
+    }
+
+    /** @return the index of the given box with the given mirror bits, for the box* methods; decodes it if needed. */
+    int box(int xBox, int yBox, int mirror) {
+        int box = ((xBox % columns) + (yBox % rows) * columns) << 2;
+        if (boxColors[box] == null) {
+            decode(box, xBox % columns, yBox % rows);
+        }
+        return box | (mirror & 3);
+    }
+
+    int[] boxColors(int box) {
+        return boxColors[box];
+    }
+
+    long boxOpaque(int box) {
+        return boxOpaque[box];
+    }
+
+    long boxWhite(int box) {
+        return boxWhite[box];
+    }
+
+    private void decode(int box, int xBox, int yBox) {
+        int offset = xBox * boxWidth + yBox * boxWidth * width;
+        for (int mirror = 0; mirror < 4; mirror++) {
+            int[] colors = new int[64];
+            long opaque = 0, white = 0;
+            for (int i = 0; i < 64; i++) {
+                int xs = (mirror & 1) != 0 ? 7 - (i & 7) : i & 7;
+                int ys = (mirror & 2) != 0 ? 7 - (i >> 3) : i >> 3;
+                if (xBox * boxWidth + xs >= width || yBox * boxWidth + ys >= height) {
+                    continue; // a sheet that isn't a multiple of 8 in size
+                }
+
+                int color = pixels[offset + xs + ys * width];
+                if ((color >> 24) != 0) {
+                    opaque |= 1L << i;
+                    if (color == 0x1FFFFFF) {
+                        white |= 1L << i;
+                    }
+                }
+                colors[i] = Color.upgrade(color);
+            }
+            boxOpaque[box | mirror] = opaque;
+            boxWhite[box | mirror] = white;
+            boxColors[box | mirror] = colors; // last, since it marks the box as decoded
+        }
     }
 }
@@ -0,0 +1,70 @@
+package minicraft.level;
+
+import java.util.BitSet;
+
+/**
+ * Splits a level into square chunks and keeps track of which of them changed, and how
+ * often, so savers, render caches and the network only have to look at what changed.
+ *
+ * The tiles themselves stay in one flat {@link TileStorage}; this only keeps a dirty bit
+ * and a modification counter for every chunk.
+ */
+final class ChunkTracker {
+
+	static final int CHUNK_SHIFT = 5; // 32x32 tiles per chunk
+	static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+	final int cols, rows;
+
+	private final BitSet dirty;
+	private final int[] modifications;
+
+	ChunkTracker(int w, int h) {
+		cols = (w + CHUNK_SIZE - 1) >> CHUNK_SHIFT;
+		rows = (h + CHUNK_SIZE - 1) >> CHUNK_SHIFT;
+		dirty = new BitSet(cols * rows);
+		modifications = new int[cols * rows];
+	}
+
+	int count() {
+		return cols * rows;
+	}
+
+	int chunkOf(int x, int y) {
+		return (x >> CHUNK_SHIFT) + (y >> CHUNK_SHIFT) * cols;
+	}
+
+	void changed(int x, int y) {
+		int chunk = chunkOf(x, y);
+		modifications[chunk]++;
+		dirty.set(chunk);
+	}
+
+	/** Marks every chunk as changed, for when all the tiles got replaced at once. */
+	void changedAll() {
+		for (int i = 0; i < modifications.length; i++) {
+			modifications[i]++;
+		}
+		dirty.set(0, modifications.length);
+	}
+
+	int modifications(int chunk) {
+		return modifications[chunk];
+	}
+
+	boolean isDirty(int chunk) {
+		return dirty.get(chunk);
+	}
+
+	int[] dirtyChunks() {
+		return dirty.stream().toArray();
+	}
+
+	void clearDirty() {
+		dirty.clear();
+	}
+
+	void clearDirty(int chunk) {
+		dirty.clear(chunk);
+	}
+}
@@ -0,0 +1,75 @@
+package minicraft.level;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import minicraft.entity.Entity;
+
+/**
+ * Keeps the entities of a level sorted into one store per type, so looking up all the
+ * mobs, chests or players of a level costs as much as the number of matches.
+ *
+ * An entity goes into the bucket of every listed type it is an instance of. The
+ * snapshot of a bucket is an array of that exact type, so it can be cast.
+ */
+final class EntityBuckets {
+
+	private final List<Class<? extends Entity>> types;
+	private final List<EntityStore<Entity>> stores;
+
+	EntityBuckets(List<Class<? extends Entity>> types) {
+		this.types = new ArrayList<>(types);
+		stores = new ArrayList<>(types.size());
+		for (Class<? extends Entity> type : types) {
+			stores.add(new EntityStore<>(size -> (Entity[]) Array.newInstance(type, size)));
+		}
+	}
+
+	void add(Entity entity) {
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i).isInstance(entity)) {
+				stores.get(i).add(entity);
+			}
+		}
+	}
+
+	void remove(Entity entity) {
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i).isInstance(entity)) {
+				stores.get(i).remove(entity);
+			}
+		}
+	}
+
+	void clear() {
+		for (EntityStore<Entity> store : stores) {
+			store.clear();
+		}
+	}
+
+	/** @return the bucket of exactly this type, or null if it isn't kept. */
+	@Nullable
+	EntityStore<Entity> get(Class<?> type) {
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i) == type) {
+				return stores.get(i);
+			}
+		}
+		return null;
+	}
+
+	/** @return the smallest bucket that holds every entity of the given type, or null if there is none. */
+	@Nullable
+	EntityStore<Entity> getClosest(Class<?> type) {
+		EntityStore<Entity> closest = null;
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i).isAssignableFrom(type) && (closest == null || stores.get(i).size() < closest.size())) {
+				closest = stores.get(i);
+			}
+		}
+		return closest;
+	}
+}
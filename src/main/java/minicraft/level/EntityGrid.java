@@ -0,0 +1,191 @@
+package minicraft.level;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import minicraft.entity.Entity;
+
+/**
+ * Uniform grid that buckets the entities of a level by their position, so area queries
+ * only have to look at the entities near the area instead of every entity in the level.
+ *
+ * Each cell covers 4x4 tiles. Entity coordinates are public and get written directly in
+ * a lot of places, so the level re-buckets entities as they move and once more per tick,
+ * and every query is padded by the largest hitbox seen plus one tile of slack.
+ */
+class EntityGrid {
+
+	private static final int CELL_SHIFT = 6; // 64 pixels, 4 tiles per cell
+	private static final int SLACK = 16; // Pixels an entity may have drifted since it was last bucketed
+
+	/** Where an entity is stored inside the grid */
+	private static final class Slot {
+		final Entity entity;
+		int cell;
+		int index;
+
+		Slot(Entity entity) {
+			this.entity = entity;
+		}
+	}
+
+	private final int cols;
+	private final int rows;
+	private final ArrayList<Slot>[] cells;
+	private final int[] cellStamps; // the value of cellChanges when each cell last changed
+	private final IdentityHashMap<Entity, Slot> slots = new IdentityHashMap<>();
+
+	private int maxRadius = 0; // biggest hitbox radius of any entity added so far
+	private int cellChanges = 0; // increases every time an entity goes in, out, or to another cell
+	private int allStamp = 0; // the value of cellChanges when every cell changed at once, or the padding of the queries grew
+
+	@SuppressWarnings("unchecked")
+	EntityGrid(int w, int h) {
+		cols = ((w << 4) >> CELL_SHIFT) + 1;
+		rows = ((h << 4) >> CELL_SHIFT) + 1;
+		cells = (ArrayList<Slot>[]) new ArrayList<?>[cols * rows];
+		cellStamps = new int[cols * rows];
+	}
+
+	private int cellX(int x) {
+		int cx = x >> CELL_SHIFT;
+		return cx < 0 ? 0 : (cx >= cols ? cols - 1 : cx);
+	}
+
+	private int cellY(int y) {
+		int cy = y >> CELL_SHIFT;
+		return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+	}
+
+	private int cellOf(Entity entity) {
+		return cellX(entity.x) + cellY(entity.y) * cols;
+	}
+
+	private void place(Slot slot, int cell) {
+		ArrayList<Slot> bucket = cells[cell];
+		if (bucket == null) {
+			bucket = cells[cell] = new ArrayList<>(4);
+		}
+		slot.cell = cell;
+		slot.index = bucket.size();
+		bucket.add(slot);
+		cellStamps[cell] = ++cellChanges;
+	}
+
+	private void unplace(Slot slot) {
+		ArrayList<Slot> bucket = cells[slot.cell];
+		Slot last = bucket.remove(bucket.size() - 1);
+		if (last != slot) { // swap the last one into the hole
+			bucket.set(slot.index, last);
+			last.index = slot.index;
+		}
+		cellStamps[slot.cell] = ++cellChanges;
+	}
+
+	private void growRadius(Entity entity) {
+		int radius = Math.max(entity.getXRadius(), entity.getYRadius());
+		if (radius > maxRadius) {
+			maxRadius = radius;
+			allStamp = ++cellChanges; // the queries look at more cells now
+		}
+	}
+
+	void add(Entity entity) {
+		if (slots.containsKey(entity)) {
+			update(entity);
+			return;
+		}
+
+		Slot slot = new Slot(entity);
+		slots.put(entity, slot);
+		place(slot, cellOf(entity));
+		growRadius(entity);
+	}
+
+	void remove(Entity entity) {
+		Slot slot = slots.remove(entity);
+		if (slot != null) {
+			unplace(slot);
+		}
+	}
+
+	/** Moves the entity to the bucket of its current position, if it changed. */
+	void update(Entity entity) {
+		Slot slot = slots.get(entity);
+		if (slot == null) {
+			return;
+		}
+
+		int cell = cellOf(entity);
+		if (cell != slot.cell) {
+			unplace(slot);
+			place(slot, cell);
+		}
+		growRadius(entity);
+	}
+
+	/** @return a counter that changes whenever the contents of any cell changed. */
+	int cellChanges() {
+		return cellChanges;
+	}
+
+	/**
+	 * @return if any of the cells that collect() looks at for the given area changed after
+	 * cellChanges() returned the given value.
+	 */
+	boolean changedSince(int changes, int left, int top, int right, int bottom) {
+		if (allStamp > changes) {
+			return true;
+		}
+
+		int pad = maxRadius + SLACK;
+		int cx0 = cellX(left - pad);
+		int cy0 = cellY(top - pad);
+		int cx1 = cellX(right + pad);
+		int cy1 = cellY(bottom + pad);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				if (cellStamps[cx + cy * cols] > changes) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	void clear() {
+		allStamp = ++cellChanges;
+		slots.clear();
+		for (ArrayList<Slot> bucket : cells) {
+			if (bucket != null) {
+				bucket.clear();
+			}
+		}
+	}
+
+	/**
+	 * Adds to {@code out} every entity of the cells that could hold an entity touching the
+	 * given pixel area. The result is a superset; callers still do the exact check.
+	 */
+	void collect(int left, int top, int right, int bottom, List<Entity> out) {
+		int pad = maxRadius + SLACK;
+		int cx0 = cellX(left - pad);
+		int cy0 = cellY(top - pad);
+		int cx1 = cellX(right + pad);
+		int cy1 = cellY(bottom + pad);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				ArrayList<Slot> bucket = cells[cx + cy * cols];
+				if (bucket == null) {
+					continue;
+				}
+				for (int i = 0; i < bucket.size(); i++) {
+					out.add(bucket.get(i).entity);
+				}
+			}
+		}
+	}
+}
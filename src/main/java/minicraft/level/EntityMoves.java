@@ -0,0 +1,52 @@
+package minicraft.level;
+
+import java.util.IdentityHashMap;
+
+import minicraft.entity.Entity;
+
+/**
+ * Where the entities of a level were drawn the last two times the level was recorded for
+ * the render thread, so every entity can be recorded with how far back it moved since.
+ * Only the tick thread uses this.
+ */
+final class EntityMoves {
+
+	static final int MAX_STEP = 16; // Moving further than this in a tick is a teleport, not walking
+
+	private IdentityHashMap<Entity, Long> last = new IdentityHashMap<>();
+	private IdentityHashMap<Entity, Long> current = new IdentityHashMap<>();
+
+	// How far back the entity given to track() or find() moved, in pixels
+	int dx, dy;
+
+	/** Starts a new recording; what was tracked until now becomes the last one. */
+	void next() {
+		IdentityHashMap<Entity, Long> old = last;
+		last = current;
+		current = old;
+		current.clear();
+	}
+
+	/** Remembers where the entity is drawn now, and finds how far back it moved since the last recording. */
+	void track(Entity entity) {
+		current.put(entity, (long) entity.x << 32 | (entity.y & 0xFFFFFFFFL));
+		find(entity);
+	}
+
+	/** Finds how far back the entity moved since the last recording, without remembering it. */
+	void find(Entity entity) {
+		Long was = last.get(entity);
+		dx = 0;
+		dy = 0;
+		if (was == null) {
+			return; // it wasn't drawn the last time
+		}
+
+		int x = (int) (was >> 32);
+		int y = (int) (long) was;
+		if (Math.abs(x - entity.x) <= MAX_STEP && Math.abs(y - entity.y) <= MAX_STEP) {
+			dx = x - entity.x;
+			dy = y - entity.y;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package minicraft.level;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.IntFunction;
+
+import minicraft.entity.Entity;
+
+/**
+ * Entity collection of a level, written only by the level itself while it drains its
+ * add/remove queues, and read everywhere else through {@link #snapshot()}.
+ *
+ * The snapshot is an array that is only rebuilt when the contents changed since it was
+ * last requested (tracked with a generation counter), so iterating it again and again
+ * during a tick or a frame doesn't allocate anything. Treat it as read-only.
+ */
+final class EntityStore<T extends Entity> {
+
+	private final IntFunction<T[]> arrayFactory;
+	private final HashMap<T, Integer> indexes = new HashMap<>(); // where each entity is in the items array
+
+	private T[] items;
+	private int size = 0;
+
+	private int generation = 0; // increases on every change
+	private T[] snapshot;
+	private int snapshotGeneration = 0;
+
+	EntityStore(IntFunction<T[]> arrayFactory) {
+		this.arrayFactory = arrayFactory;
+		items = arrayFactory.apply(16);
+		snapshot = arrayFactory.apply(0);
+	}
+
+	int size() {
+		return size;
+	}
+
+	/** @return the entity at the given index, which is anywhere from 0 to size() - 1 */
+	T get(int index) {
+		return items[index];
+	}
+
+	int generation() {
+		return generation;
+	}
+
+	boolean contains(Entity entity) {
+		return indexes.containsKey(entity);
+	}
+
+	boolean add(T entity) {
+		if (indexes.containsKey(entity)) {
+			return false;
+		}
+
+		if (size == items.length) {
+			items = Arrays.copyOf(items, size * 2);
+		}
+		indexes.put(entity, size);
+		items[size++] = entity;
+		generation++;
+		return true;
+	}
+
+	boolean remove(Entity entity) {
+		Integer index = indexes.remove(entity);
+		if (index == null) {
+			return false;
+		}
+
+		// move the last entity into the hole
+		T last = items[--size];
+		items[size] = null;
+		if (index != size) {
+			items[index] = last;
+			indexes.put(last, index);
+		}
+		generation++;
+		return true;
+	}
+
+	void clear() {
+		Arrays.fill(items, 0, size, null);
+		indexes.clear();
+		size = 0;
+		generation++;
+	}
+
+	/** @return the entities as of the last change; shared between callers, so don't modify it. */
+	T[] snapshot() {
+		if (snapshotGeneration != generation) {
+			T[] copy = arrayFactory.apply(size);
+			System.arraycopy(items, 0, copy, 0, size);
+			snapshot = copy;
+			snapshotGeneration = generation;
+		}
+		return snapshot;
+	}
+}
@@ -0,0 +1,136 @@
+package minicraft.level;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * Which tiles of a level the player has seen on the map, one bit per tile.
+ *
+ * On disk it is written as alternating run lengths of unexplored and explored tiles,
+ * which stays small since explored tiles come in blobs around the paths the player took.
+ */
+public class ExploredMap {
+
+	public final int w, h;
+	private final BitSet bits;
+
+	public ExploredMap(int w, int h) {
+		this.w = w;
+		this.h = h;
+		bits = new BitSet(w * h);
+	}
+
+	/** Converts the explored array of older saves, which is indexed [y][x]. */
+	public static ExploredMap fromArray(boolean[][] explored) {
+		int h = explored.length;
+		int w = h > 0 ? explored[0].length : 0;
+		ExploredMap map = new ExploredMap(w, h);
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w && x < explored[y].length; x++) {
+				if (explored[y][x]) {
+					map.bits.set(x + y * w);
+				}
+			}
+		}
+		return map;
+	}
+
+	public boolean isExplored(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) {
+			return false;
+		}
+		return bits.get(x + y * w);
+	}
+
+	public void setExplored(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) {
+			return;
+		}
+		bits.set(x + y * w);
+	}
+
+	/** Marks the tiles from x0 to x1 (both inclusive) on row y as explored. */
+	public void revealRow(int y, int x0, int x1) {
+		if (y < 0 || y >= h) {
+			return;
+		}
+		x0 = Math.max(x0, 0);
+		x1 = Math.min(x1, w - 1);
+		if (x0 <= x1) {
+			bits.set(x0 + y * w, x1 + y * w + 1);
+		}
+	}
+
+	/** Marks every tile within the given radius of the given tile as explored. */
+	public void revealCircle(int cx, int cy, int radius) {
+		int radiusSquared = radius * radius;
+		for (int dy = -radius; dy <= radius; dy++) {
+			int dx = (int) Math.sqrt(radiusSquared - dy * dy);
+			while ((dx + 1) * (dx + 1) + dy * dy <= radiusSquared) dx++; // in case sqrt rounded down too far
+			revealRow(cy + dy, cx - dx, cx + dx);
+		}
+	}
+
+	/** @return the map as alternating unexplored and explored run lengths, in base 64. */
+	public String encode() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeVarInt(out, w);
+		writeVarInt(out, h);
+
+		int size = w * h;
+		int pos = 0;
+		boolean explored = false;
+		while (pos < size) {
+			int next = explored ? bits.nextClearBit(pos) : bits.nextSetBit(pos);
+			if (next < 0 || next > size) next = size;
+			writeVarInt(out, next - pos);
+			pos = next;
+			explored = !explored;
+		}
+
+		return Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+
+	/** Reads a map written by {@link #encode()}. */
+	public static ExploredMap decode(String encoded) {
+		byte[] in = Base64.getDecoder().decode(encoded);
+		int[] pos = { 0 };
+		int w = readVarInt(in, pos);
+		int h = readVarInt(in, pos);
+		ExploredMap map = new ExploredMap(w, h);
+
+		int size = w * h;
+		int tile = 0;
+		boolean explored = false;
+		while (tile < size && pos[0] < in.length) {
+			int run = Math.min(readVarInt(in, pos), size - tile);
+			if (explored) {
+				map.bits.set(tile, tile + run);
+			}
+			tile += run;
+			explored = !explored;
+		}
+		return map;
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(byte[] in, int[] pos) {
+		int value = 0;
+		int shift = 0;
+		while (pos[0] < in.length) {
+			int b = in[pos[0]++];
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) break;
+			shift += 7;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,98 @@
+package minicraft.level;
+
+import java.util.BitSet;
+
+import minicraft.level.tile.Tile;
+
+/**
+ * Keeps the fluid tiles of a level (water and lava) that can still flow somewhere, and
+ * lets a limited number of them flow every few ticks. Once a lake filled its hole it drops
+ * out of here, and the level puts it back when a tile next to it changes.
+ *
+ * The tiles flow in the order they were queued in. Tiles that get queued while the others
+ * flow wait for the next turn, so a flood spreads one tile per turn and one turn doesn't
+ * set off a chain of changes through the whole level.
+ */
+final class FluidFlow {
+
+	// How many ticks pass between two turns of the fluids flowing, and how many fluid tiles may flow in one turn
+	private static final int FLOW_DELAY = 10;
+	private static final int FLOW_BUDGET = 256;
+
+	private final Level level;
+	private final BitSet queued; // which positions are in the queue
+	private int[] queue = new int[64]; // a ring of positions
+	private int head = 0, size = 0;
+
+	private int delay = 0;
+
+	FluidFlow(Level level) {
+		this.level = level;
+		queued = new BitSet(level.w * level.h);
+	}
+
+	int size() {
+		return size;
+	}
+
+	/** Queues the tile at the given position if it's a fluid that can flow. */
+	void wake(int x, int y) {
+		if (x < 0 || y < 0 || x >= level.w || y >= level.h) {
+			return;
+		}
+
+		int position = x + y * level.w;
+		if (queued.get(position) || !level.getTile(x, y).canFlow(level, x, y)) {
+			return;
+		}
+
+		if (size == queue.length) {
+			int[] larger = new int[size * 2];
+			for (int i = 0; i < size; i++) {
+				larger[i] = queue[(head + i) % queue.length];
+			}
+			queue = larger;
+			head = 0;
+		}
+		queue[(head + size++) % queue.length] = position;
+		queued.set(position);
+	}
+
+	/** Queues the tile at the given position and the ones next to it, since they may be able to flow into it now. */
+	void wakeAround(int x, int y) {
+		wake(x, y);
+		wake(x, y - 1);
+		wake(x, y + 1);
+		wake(x - 1, y);
+		wake(x + 1, y);
+	}
+
+	/** Lets at most FLOW_BUDGET queued tiles flow, once every FLOW_DELAY ticks. */
+	void tick() {
+		if (size == 0 || ++delay < FLOW_DELAY) {
+			return;
+		}
+		delay = 0;
+
+		int count = Math.min(size, FLOW_BUDGET);
+		for (int i = 0; i < count; i++) {
+			int position = queue[head];
+			head = (head + 1) % queue.length;
+			size--;
+			queued.clear(position);
+
+			int x = position % level.w;
+			int y = position / level.w;
+			Tile tile = level.getTile(x, y);
+			if (tile.canFlow(level, x, y)) { // could have been filled in since it was queued
+				tile.flow(level, x, y);
+			}
+		}
+	}
+
+	void clear() {
+		queued.clear();
+		head = 0;
+		size = 0;
+	}
+}
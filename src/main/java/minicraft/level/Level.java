@@ -3,9 +3,7 @@ package minicraft.level;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -23,6 +21,7 @@ import minicraft.entity.ItemEntity;
 import minicraft.entity.Spark;
 import minicraft.entity.furniture.Chest;
 import minicraft.entity.furniture.DungeonChest;
+import minicraft.entity.furniture.Furniture;
 import minicraft.entity.furniture.Lantern;
 import minicraft.entity.furniture.Spawner;
 import minicraft.entity.mob.AirWizard;
@@ -53,6 +52,8 @@ import minicraft.entity.mob.Slime;
 import minicraft.entity.mob.Snake;
 import minicraft.entity.mob.VillagerMob;
 import minicraft.entity.mob.Zombie;
+import minicraft.entity.particle.Particle;
+import minicraft.graphic.ConnectorSprite;
 import minicraft.graphic.Point;
 import minicraft.graphic.Rectangle;
 import minicraft.graphic.Screen;
@@ -60,6 +61,7 @@ import minicraft.item.Item;
 import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 import minicraft.level.tile.TorchTile;
+import minicraft.network.Network;
 
 //--------------------------------------------------------------------------------------------------------------------------------------------------
 
@@ -89,17 +91,35 @@ public class Level {
 	// the mob cap is reached. I hope that makes sense...
 	private static final int MOB_SPAWN_FACTOR = 100;
 
+	// How many mobs over the cap tick() looks at for despawning, at most; the rest waits for the next tick.
+	private static final int MAX_DESPAWN_ATTEMPTS = 64;
+
+	// What getTile() returns outside the level
+	private static final Tiles.Handle CONNECTOR_TILE = Tiles.handle("Connector Tile");
+
 	public int w, h;
 	private final long seed; // The used seed that was used to generate the world
 
-	public short[] tiles; // An array of all the tiles in the world.
-	public short[] data; // An array of the data of the tiles in the world
+	private TileStorage tiles; // The ids and data of all the tiles in the world.
+	private TileTicks tileTicks; // Where the tiles are that do something on a random tick
+	private LightSources lightSources; // How many torches and lanterns light up each tile
+	private FluidFlow fluids; // The water and lava tiles that can still flow somewhere
+	private final List<TileDistanceMap> distanceMaps = new ArrayList<>(); // Made the first time the distance to a kind of tile is asked for
+	private final ChunkTracker chunks; // Which parts of the level had their tiles changed
+	private short[] connections; // Per tile: the id of the last connector sprite drawn there, and its connection mask
+	private TileRenderCache renderCache; // Made the first time the level is drawn
+	private LightCache lightCache; // Made the first time the light of the level is drawn
+	private int[] entityLights = new int[48]; // x, y and radius of the lights of the entities on the screen, reused every frame
+	private EntityMoves moves; // Made the first time the level is recorded for the render thread
+
+	public static final int CHUNK_SIZE = ChunkTracker.CHUNK_SIZE; // Width and height of a chunk, in tiles
+	public static final int MAX_STEP = EntityMoves.MAX_STEP; // Moving further than this in a tick is a teleport, which isn't interpolated
 
 	public int randomMusic; // used for the Random music system in the current level
 
 	// Depth level of the level
 	public final int depth;
-	public boolean[][] explored;
+	public ExploredMap explored;
 	
 	public static String getLevelName(int depth) {
 		return levelNames[-1 * depth + 2];
@@ -114,16 +134,29 @@ public class Level {
 	public int maxMobCount;
 	public int chestCount;
 	public int mobCount = 0;
+	public int addedCount = 0; // Entities that were waiting to be added on the last tick
+	public int removedCount = 0; // Entities that were waiting to be removed on the last tick
 
 	/**
-	 * I will be using this lock to avoid concurrency exceptions in entities and sparks set
+	 * These are only changed by the level itself, when the queues below are drained in tick(),
+	 * anything else reads them through their snapshots, which don't change in the middle of a tick.
 	 */
-	private final Object entityLock = new Object(); // I will be using this lock to avoid concurrency exceptions in entities and sparks set
-	private final Set<Entity> entities = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the entities in the world
-	private final Set<Spark> sparks = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the sparks in the world
-	private final Set<Player> players = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the players in the world
-	private final List<Entity> entitiesToAdd = new ArrayList<>(); /// entities that will be added to the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
-	private final List<Entity> entitiesToRemove = new ArrayList<>(); /// entities that will be removed from the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
+	private final EntityStore<Entity> entities = new EntityStore<>(Entity[]::new); // A list of all the entities in the world
+	private final EntityStore<Spark> sparks = new EntityStore<>(Spark[]::new); // A list of all the sparks in the world
+
+	// The entities again, by type. Mob also has the players, Chest the dungeon chests, and so on.
+	private final EntityBuckets entitiesByType = new EntityBuckets(Arrays.asList(
+		Mob.class, EnemyMob.class, AirWizard.class, Player.class, Furniture.class, Chest.class, DungeonChest.class, Lantern.class, Particle.class, ItemEntity.class
+	));
+	private final EntityStore<Entity> despawnCandidates = new EntityStore<>(Entity[]::new); // The mobs that may get removed when over the mob cap
+	private final Set<Entity> entitiesToAdd = new LinkedHashSet<>(); /// entities that will be added to the level on next tick are stored here, in the order they came. This is for the sake of multithreading optimization. (hopefully)
+	private final Set<Entity> entitiesToRemove = new LinkedHashSet<>(); /// entities that will be removed from the level on next tick are stored here, in the order they came. This is for the sake of multithreading optimization. (hopefully)
+	private final EntityGrid entityGrid; // Spatial index of the entities and sparks, used by the area queries
+
+	// Entities and sparks together, rebuilt by getEntityArray() only when one of them changed
+	private Entity[] entityArray = new Entity[0];
+	private int entityArrayGeneration = 0;
+	private int entityArraySparkGeneration = 0;
 
 	// Creates a sorter for all the entities to be rendered.
 	//private static Comparator<Entity> spriteSorter = Comparator.comparingInt(e -> e.y); // Broken
@@ -135,6 +168,12 @@ public class Level {
 		}
 	});
 
+	// The entities around the view on the last frame, kept sorted by y from frame to frame.
+	// It's only refilled when the view moves to other tiles or an entity goes in or out of one of its grid cells.
+	private final ArrayList<Entity> renderList = new ArrayList<>();
+	private int renderXt0, renderYt0, renderXt1, renderYt1;
+	private int renderListCellChanges = -1;
+
 	public Entity[] getEntitiesToSave() {
 		Entity[] allEntities = new Entity[entities.size() + sparks.size() + entitiesToAdd.size()];
 		Entity[] toAdd = entitiesToAdd.toArray(new Entity[entitiesToAdd.size()]);
@@ -170,11 +209,9 @@ public class Level {
 
 	public void printEntityLocs(Class <? extends Entity> entityClass) {
 		int numfound = 0;
-		for (Entity entity: getEntityArray()) {
-			if (entityClass.isAssignableFrom(entity.getClass())) {
-				printLevelLoc(entity.toString(), entity.x >> 4, entity.y >> 4);
-				numfound++;
-			}
+		for (Entity entity: getEntitiesOfClass(entityClass)) {
+			printLevelLoc(entity.toString(), entity.x >> 4, entity.y >> 4);
+			numfound++;
 		}
 		Logger.debug("Found {} entities in level of depth {}", numfound, depth);
 	}
@@ -191,6 +228,8 @@ public class Level {
 		this.h = h;
 		this.seed = seed;
         random = new Random(seed);
+        entityGrid = new EntityGrid(w, h);
+        chunks = new ChunkTracker(w, h);
 		short[][] maps; // Multidimensional array (an array within a array), used for the map
 
 		if (level != -4 && level != 0) {
@@ -201,8 +240,9 @@ public class Level {
 
 		if (!makeWorld) {
 			int arrsize = w * h;
-			tiles = new short[arrsize];
-			data = new short[arrsize];
+			tiles = new TileStorage(arrsize);
+			tileTicks = new TileTicks(arrsize);
+			explored = new ExploredMap(w, h);
 			return;
 		}
 
@@ -214,8 +254,10 @@ public class Level {
 			return;
 		}
 
-		tiles = maps[0]; // assigns the tiles in the map
-		data = maps[1]; // assigns the data of the tiles
+		tiles = new TileStorage(maps[0], maps[1]); // assigns the tiles and their data in the map
+		findTickingTiles();
+		findLightSources();
+		findFlowingTiles();
 
 		if (level < 0) {
 			generateSpawnerStructures();
@@ -265,13 +307,8 @@ public class Level {
 			printTileLocs(Tiles.get("Stairs Down"));
 		}
 		
-        // Initialize the explored array for all sectors to all false
-        explored = new boolean[this.w][this.h];
-        for (int y = 0; y < this.h; y++) {
-            for (int x = 0; x < this.w; x++) {
-                explored[y][x] = false;
-            }
-        }
+        // Nothing is explored yet
+        explored = new ExploredMap(this.w, this.h);
 	}
 
 	public Level(int w, int h, int level, Level parentLevel, boolean makeWorld) {
@@ -301,10 +338,8 @@ public class Level {
 						found = true;
 					}
 				}
-				for (Entity entity: entities) {
-					if (entity instanceof AirWizard) {
-						found = true;
-					}
+				if (entitiesByType.get(AirWizard.class).size() > 0) {
+					found = true;
 				}
 			}
 
@@ -333,11 +368,7 @@ public class Level {
 					numChests++;
 				}
 			}
-			for (Entity entity: entities) {
-				if (entity instanceof DungeonChest) {
-					numChests++;
-				}
-			}
+			numChests += entitiesByType.get(DungeonChest.class).size();
 
 			if (Game.debug) Logger.info("Found {} dungeon chests", numChests);
 		}
@@ -381,6 +412,34 @@ public class Level {
 		}
 	}
 
+	/**
+	 * Gives random ticks to the tiles that tick. Every tile used to have a 1 in 50 chance
+	 * of being picked per tick; the number of picks is scaled down to the ticking tiles,
+	 * so each of them keeps that chance.
+	 */
+	private void tickTiles() {
+		int area = w * h;
+		long picks = (long) (area / 50) * tileTicks.size();
+		int count = (int) (picks / area);
+		if (random.nextInt(area) < picks % area) {
+			count++;
+		}
+
+		for (int i = 0; i < count && tileTicks.size() > 0; i++) {
+			int index = random.nextInt(tileTicks.size());
+			int position = tileTicks.get(index);
+			int xt = position % w;
+			int yt = position / w;
+
+			Tile tile = getTile(xt, yt);
+			if (!tile.ticksWith(getData(xt, yt))) { // replaced or healed since it was listed
+				tileTicks.removeAt(index);
+				continue;
+			}
+			tile.tick(this, xt, yt);
+		}
+	}
+
 	private void tickEntity(Entity entity) {
 		if (entity == null) return;
 
@@ -403,26 +462,32 @@ public class Level {
 		
 		updateMobCap();
 
-		while (entitiesToAdd.size() > 0) {
-			Entity entity = entitiesToAdd.get(0);
+		for (Entity entity: entitiesToAdd) {
 			boolean inLevel = entities.contains(entity);
 
 			if (!inLevel) {
 				if (Game.debug) printEntityStatus("Adding ", entity, "furniture.DungeonChest", "mob.AirWizard", "mob.Player");
 
-				synchronized (entityLock) {
-					if (entity instanceof Spark) {
-						sparks.add((Spark) entity);
-					} else {
-						entities.add(entity);
-						if (entity instanceof Player) {
-							players.add((Player) entity);
-						}
+				if (entity instanceof Spark) {
+					sparks.add((Spark) entity);
+				} else {
+					entities.add(entity);
+					entitiesByType.add(entity);
+					if (entity instanceof Lantern && lightSources != null) {
+						lightSources.addLantern(entity);
+					}
+					if (isDespawnable(entity)) {
+						despawnCandidates.add(entity);
 					}
 				}
+				entityGrid.add(entity);
+				Network.registerEntity(entity);
+			} else if (isDespawnable(entity)) {
+				despawnCandidates.add(entity); // it was picked for despawning, but got added back before leaving
 			}
-			entitiesToAdd.remove(entity);
 		}
+		addedCount = entitiesToAdd.size();
+		entitiesToAdd.clear();
 
 
 		// LEVEL AMBIENT LOOPS!
@@ -452,55 +517,62 @@ public class Level {
 		if (fullTick) {
 			// this prevents any entity (or tile) tick action from happening on a server level with no players.
 
-			for (int i = 0; i < (w * h) / 50; i++) {
-				int xt = random.nextInt(w);
-				int yt = random.nextInt(w);
-				getTile(xt, yt).tick(this, xt, yt);
+			tickTiles();
+			if (fluids != null) {
+				fluids.tick();
 			}
 
 			// entity loop
 
-			for (Entity entity: entities) {
+			for (Entity entity: entities.snapshot()) {
 				tickEntity(entity);
-				if (entity instanceof Mob) {
-					count++;
-				}
+				entityMoved(entity); // catches entities that were moved without move()
 			}
+			count = entitiesByType.get(Mob.class).size();
 
-			sparks.forEach(this::tickEntity);
+			for (Spark spark: sparks.snapshot()) {
+				tickEntity(spark);
+				entityGrid.update(spark);
+			}
 		}
 
-		while (count > maxMobCount) {
-			Entity removeThis = (Entity) entities.toArray()[(random.nextInt(entities.size()))];
-			if ((removeThis instanceof MobAi) && !(removeThis instanceof VillagerMob)) {
-				// make sure there aren't any close players
-				boolean playerClose = entityNearPlayer(removeThis);
+		int attempts = MAX_DESPAWN_ATTEMPTS;
+		while (count > maxMobCount && attempts > 0 && despawnCandidates.size() > 0) {
+			attempts--;
+			Entity removeThis = despawnCandidates.get(random.nextInt(despawnCandidates.size()));
 
-				if (!playerClose) {
-					remove(removeThis);
-					count--;
-				}
+			// make sure there aren't any close players
+			boolean playerClose = entityNearPlayer(removeThis);
+
+			if (!playerClose) {
+				despawnCandidates.remove(removeThis); // so it can't be picked twice before it's gone
+				remove(removeThis);
+				count--;
 			}
 		}
 
-		while (entitiesToRemove.size() > 0) {
-			Entity entity = entitiesToRemove.get(0);
-
+		for (Entity entity: entitiesToRemove) {
 			if (Game.debug) printEntityStatus("Removing ", entity, "mob.Player");
 
 			entity.remove(this); // this will safely fail if the entity's level doesn't match this one.
+			if (entity.getLevel() == null) {
+				Network.unregisterEntity(entity); // not moving to another level
+			}
 
 			if (entity instanceof Spark) {
 				sparks.remove(entity);
 			} else {
 				entities.remove(entity);
+				entitiesByType.remove(entity);
+				despawnCandidates.remove(entity);
+				if (entity instanceof Lantern && lightSources != null) {
+					lightSources.removeLantern(entity);
+				}
 			}
-
-			if (entity instanceof Player) {
-				players.remove(entity);
-			}
-			entitiesToRemove.remove(entity);
+			entityGrid.remove(entity);
 		}
+		removedCount = entitiesToRemove.size();
+		entitiesToRemove.clear();
 
 		mobCount = count;
 
@@ -509,6 +581,11 @@ public class Level {
 		}
 	}
 
+	/** Villagers and the entities that aren't mob AIs never despawn for the mob cap. */
+	private static boolean isDespawnable(Entity entity) {
+		return entity instanceof MobAi && !(entity instanceof VillagerMob);
+	}
+
 	/**
 	 * Determine if an entity is near any of the players.
 	 * 
@@ -516,7 +593,7 @@ public class Level {
 	 * @return True if the entity is within 128 units of the x coordinate and 76 units of the y coordinate of any player, false otherwise.
 	 */
 	public boolean entityNearPlayer(Entity entity) {
-		for (Player player : players) {
+		for (Player player : getPlayers()) {
 			if (Math.abs(player.x - entity.x) < 128 && Math.abs(player.y - entity.y) < 76) {
 				return true;
 			}
@@ -577,10 +654,18 @@ public class Level {
 		int h = (Screen.h) >> 4;
 		
 		screen.setOffset(xScroll, yScroll);
-		
+
+		if (renderCache == null) {
+			renderCache = new TileRenderCache(this);
+		}
+		renderCache.render(screen, xo, yo, w + xo, h + yo);
+
+		// Past the edges of the level, nothing is cached
 		for (int y = yo; y <= h + yo; y++) {
 			for (int x = xo; x <= w + xo; x++) {
-				getTile(x, y).render(screen, this, x, y);
+				if (x < 0 || y < 0 || x >= this.w || y >= this.h) {
+					getTile(x, y).render(screen, this, x, y);
+				}
 			}
 		}
 		screen.setOffset(0, 0);
@@ -593,13 +678,42 @@ public class Level {
 		int w = (Screen.w + 15) >> 4;
 		int h = (Screen.h + 15) >> 4;
 
+		if (screen.isRecording()) {
+			if (moves == null) {
+				moves = new EntityMoves();
+			}
+			moves.next();
+		}
+
 		screen.setOffset(xScroll, yScroll);
-		sortAndRender(screen, getEntitiesInTiles(xo - 1, yo - 1, (xo + w) + 1, (yo + h) + 1));
+		sortAndRender(screen, xo - 1, yo - 1, (xo + w) + 1, (yo + h) + 1);
 
 		screen.setOffset(0, 0);
 	}
 
 	public void renderLight(Screen screen, int xScroll, int yScroll, int brightness) {
+		int count = 0;
+		for (Entity entity: getEntitiesAroundScreen(xScroll, yScroll)) {
+			int lightRadius = entity.getLightRadius();
+			if (lightRadius > 0) {
+				if (count * 3 == entityLights.length) {
+					entityLights = Arrays.copyOf(entityLights, entityLights.length * 2);
+				}
+				entityLights[count * 3] = entity.x - 1;
+				entityLights[count * 3 + 1] = entity.y - 4;
+				entityLights[count * 3 + 2] = lightRadius * brightness;
+				count++;
+			}
+		}
+		screen.setOffset(xScroll, yScroll);
+		screen.renderLights(entityLights, count); // all in one go, so they can be split over the cores
+		screen.setOffset(0, 0);
+
+		renderTileLight(screen, xScroll, yScroll, brightness);
+	}
+
+	/** Renders the light of the tiles alone, without the light of the entities. */
+	public void renderTileLight(Screen screen, int xScroll, int yScroll, int brightness) {
 		int xo = xScroll >> 4;
 		int yo = yScroll >> 4;
 		
@@ -607,49 +721,159 @@ public class Level {
 		int h = (Screen.h + 15) >> 4;
 
 		screen.setOffset(xScroll, yScroll);
-		int r = 8;
 
-		List <Entity> entities = getEntitiesInTiles(xo - r, yo - r, w + xo + r, h + yo + r);
-		for (Entity entity: entities) {
+		// The light of the tiles only changes with the tiles, so it is kept drawn
+		if (lightCache == null) {
+			lightCache = new LightCache(this);
+		}
+		lightCache.render(screen, xo, yo, w + xo, h + yo, brightness);
+
+		screen.setOffset(0, 0);
+	}
+
+	/**
+	 * @return the lights of the entities around the screen, for the render thread: the x, y
+	 * and light radius of each, and how far back it moved since the level was last recorded.
+	 */
+	public int[] recordLights(int xScroll, int yScroll) {
+		if (moves == null) {
+			moves = new EntityMoves();
+		}
+
+		int[] lights = new int[40];
+		int count = 0;
+		for (Entity entity: getEntitiesAroundScreen(xScroll, yScroll)) {
 			int lightRadius = entity.getLightRadius();
 			if (lightRadius > 0) {
-				screen.renderLight(entity.x - 1, entity.y - 4, lightRadius * brightness);
+				if (count * 5 == lights.length) {
+					lights = Arrays.copyOf(lights, lights.length * 2);
+				}
+				moves.find(entity);
+				lights[count * 5] = entity.x - 1;
+				lights[count * 5 + 1] = entity.y - 4;
+				lights[count * 5 + 2] = lightRadius;
+				lights[count * 5 + 3] = moves.dx;
+				lights[count * 5 + 4] = moves.dy;
+				count++;
 			}
 		}
+		return Arrays.copyOf(lights, count * 5);
+	}
 
-		for (int y = yo - r; y <= h + yo + r; y++) {
-			for (int x = xo - r; x <= w + xo + r; x++) {
-				if (x < 0 || y < 0 || x >= this.w || y >= this.h) {
-					continue;
-				}
+	/** @return the entities close enough to the screen for their light to reach it. */
+	private List<Entity> getEntitiesAroundScreen(int xScroll, int yScroll) {
+		int xo = xScroll >> 4;
+		int yo = yScroll >> 4;
+		
+		int w = (Screen.w + 15) >> 4;
+		int h = (Screen.h + 15) >> 4;
 
-				int lightRadius = getTile(x, y).getLightRadius(this, x, y);
-				if (lightRadius > 0) screen.renderLight((x << 4) + 8, (y << 4) + 8, lightRadius * brightness);
-			}
-		}
-		screen.setOffset(0, 0);
+		int r = 8;
+		return getEntitiesInTiles(xo - r, yo - r, w + xo + r, h + yo + r);
 	}
 	
-	private void sortAndRender(Screen screen, List <Entity> list) {
-		list.sort(spriteSorter);
-	    for (Entity entity : list) {
+	private void sortAndRender(Screen screen, int xt0, int yt0, int xt1, int yt1) {
+		int left = xt0 << 4, top = yt0 << 4, right = (xt1 << 4) + 15, bottom = (yt1 << 4) + 15;
+		if (xt0 != renderXt0 || yt0 != renderYt0 || xt1 != renderXt1 || yt1 != renderYt1 || entityGrid.changedSince(renderListCellChanges, left, top, right, bottom)) {
+			renderList.clear();
+			entityGrid.collect(left, top, right, bottom, renderList);
+			renderList.sort(spriteSorter);
+
+			renderXt0 = xt0;
+			renderYt0 = yt0;
+			renderXt1 = xt1;
+			renderYt1 = yt1;
+			renderListCellChanges = entityGrid.cellChanges();
+		} else {
+			// The list is still sorted from the last frame, except for whatever moved since, so an insertion pass is enough.
+			for (int i = 1; i < renderList.size(); i++) {
+				Entity entity = renderList.get(i);
+				int j = i - 1;
+				while (j >= 0 && spriteSorter.compare(renderList.get(j), entity) > 0) {
+					renderList.set(j + 1, renderList.get(j));
+					j--;
+				}
+				renderList.set(j + 1, entity);
+			}
+		}
+
+	    for (int i = 0; i < renderList.size(); i++) {
+	        Entity entity = renderList.get(i);
+	        int xt = entity.x >> 4;
+	        int yt = entity.y >> 4;
+	        if (xt < xt0 || xt > xt1 || yt < yt0 || yt > yt1) {
+	            continue; // the list also has the entities around the view
+	        }
+
 	        if (entity.getLevel() == this && !entity.isRemoved()) {
+	            if (screen.isRecording()) {
+	                moves.track(entity);
+	                screen.beginPart(moves.dx, moves.dy);
+	            }
 	            entity.render(screen);
 	        } else {
 	            remove(entity);
 	        }
 	    }
+
+	    screen.beginPart(0, 0);
+	}
+
+	/** Replaces every tile of the level with the given ids and data, as made by a loader. */
+	public void loadTiles(short[] tiles, short[] data) {
+		this.tiles = new TileStorage(tiles, data);
+		findTickingTiles();
+		findLightSources();
+		findFlowingTiles();
+		chunks.changedAll();
+		connections = null;
+		if (renderCache != null) renderCache.clear();
+		if (lightCache != null) lightCache.clear();
+		distanceMaps.clear();
+	}
+
+	private void findTickingTiles() {
+		tileTicks = new TileTicks(w * h);
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++) {
+				if (getTile(x, y).ticksWith(getData(x, y))) {
+					tileTicks.add(x + y * w);
+				}
+			}
+		}
+	}
+
+	private void findFlowingTiles() {
+		fluids = new FluidFlow(this);
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++) {
+				fluids.wake(x, y);
+			}
+		}
+	}
+
+	private void findLightSources() {
+		lightSources = new LightSources(w, h);
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++) {
+				if (getTile(x, y) instanceof TorchTile) {
+					lightSources.addTorch(x, y);
+				}
+			}
+		}
+
+		EntityStore<Entity> lanterns = entitiesByType.get(Lantern.class);
+		for (int i = 0; i < lanterns.size(); i++) {
+			lightSources.addLantern(lanterns.get(i));
+		}
 	}
 
 	public Tile getTile(int x, int y) {
 		if (x < 0 || y < 0 || x >= w || y >= h) {
-			return Tiles.get("Connector Tile");
+			return CONNECTOR_TILE.get();
 		}
 		
-		int id = tiles[x + y * w];
-		if (id < 0) id += 256;
-		
-		return Tiles.get(id);
+		return Tiles.get(tiles.getId(x + y * w));
 	}
 
 	public void setTile(int x, int y, String tileWithData) {
@@ -669,22 +893,156 @@ public class Level {
 	public void setTile(int x, int y, Tile tile, int dataValue) {
 		if (x < 0 || y < 0 || x >= w || y >= h) return;
 
-		tiles[x + y * w] = tile.id;
-		data[x + y * w] = (short) dataValue;
+		Tile old = getTile(x, y);
+		if (lightCache != null && (old.getLightRadius(this, x, y) > 0 || tile.getLightRadius(this, x, y) > 0)) {
+			lightCache.invalidate(x, y);
+		}
+		if (lightSources != null && old instanceof TorchTile != tile instanceof TorchTile) {
+			if (tile instanceof TorchTile) lightSources.addTorch(x, y);
+			else lightSources.removeTorch(x, y);
+		}
+
+		tiles.setId(x + y * w, tile.id);
+		tiles.setData(x + y * w, dataValue);
+		chunks.changed(x, y);
+		if (old != tile) {
+			for (TileDistanceMap map : distanceMaps) {
+				if (map.tile == old) map.changed(x, y, false);
+				else if (map.tile == tile) map.changed(x, y, true);
+			}
+		}
+		forgetConnections(x, y);
+		if (renderCache != null) renderCache.invalidate(x, y);
+		if (tile.ticksWith(tiles.getData(x + y * w))) {
+			tileTicks.add(x + y * w);
+		}
+		if (fluids != null && old != tile) {
+			fluids.wakeAround(x, y);
+		}
+	}
+
+	/**
+	 * @return the connection mask of the given connector sprite at the given tile. These
+	 * only change when a neighbouring tile does, so they are kept until then.
+	 */
+	public int getConnections(ConnectorSprite sprite, int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h || sprite.id > 0xFF) {
+			return sprite.getConnections(this, x, y);
+		}
+
+		if (connections == null) {
+			connections = new short[w * h];
+		}
+
+		int pos = x + y * w;
+		int known = connections[pos] & 0xFFFF;
+		if (known >> 8 == sprite.id) {
+			return known & 0xFF;
+		}
+
+		int mask = sprite.getConnections(this, x, y);
+		connections[pos] = (short) (sprite.id << 8 | mask);
+		return mask;
+	}
+
+	/** Drops the connection masks that depend on the given tile. */
+	private void forgetConnections(int x, int y) {
+		if (connections == null) {
+			return;
+		}
+		for (int yy = Math.max(y - 1, 0); yy <= Math.min(y + 1, h - 1); yy++) {
+			for (int xx = Math.max(x - 1, 0); xx <= Math.min(x + 1, w - 1); xx++) {
+				connections[xx + yy * w] = 0;
+			}
+		}
 	}
 
 	public int getData(int x, int y) {
 		if (x < 0 || y < 0 || x >= w || y >= h) {
 			return 0;
 		}
-		return data[x + y * w] & 0xff;
+		return tiles.getData(x + y * w);
 	}
 
 	public void setData(int x, int y, int value) {
 		if (x < 0 || y < 0 || x >= w || y >= h) {
 			return;
 		}
-		data[x + y * w] = (short) value;
+		tiles.setData(x + y * w, value);
+		chunks.changed(x, y);
+		if (renderCache != null) renderCache.invalidate(x, y);
+		if (getTile(x, y).ticksWith(tiles.getData(x + y * w))) {
+			tileTicks.add(x + y * w);
+		}
+	}
+
+	public int getChunkCount() {
+		return chunks.count();
+	}
+
+	/** @return the chunk the given tile is in. */
+	public int getChunkAt(int x, int y) {
+		return chunks.chunkOf(x, y);
+	}
+
+	/** @return how many times a tile in the chunk was changed. */
+	public int getChunkModifications(int chunk) {
+		return chunks.modifications(chunk);
+	}
+
+	public boolean isChunkDirty(int chunk) {
+		return chunks.isDirty(chunk);
+	}
+
+	/** @return every chunk that had a tile changed since the dirty flags were last cleared. */
+	public int[] getDirtyChunks() {
+		return chunks.dirtyChunks();
+	}
+
+	public void clearDirtyChunks() {
+		chunks.clearDirty();
+	}
+
+	public void clearDirtyChunk(int chunk) {
+		chunks.clearDirty(chunk);
+	}
+
+	/** @return a copy of the tiles of the given chunk. */
+	public TileChunk getChunkSnapshot(int chunk) {
+		int x0 = (chunk % chunks.cols) * CHUNK_SIZE;
+		int y0 = (chunk / chunks.cols) * CHUNK_SIZE;
+		int cw = Math.min(CHUNK_SIZE, w - x0);
+		int ch = Math.min(CHUNK_SIZE, h - y0);
+
+		short[] ids = new short[cw * ch];
+		byte[] data = new byte[cw * ch];
+		for (int yo = 0; yo < ch; yo++) {
+			for (int xo = 0; xo < cw; xo++) {
+				int pos = (x0 + xo) + (y0 + yo) * w;
+				ids[xo + yo * cw] = (short) tiles.getId(pos);
+				data[xo + yo * cw] = (byte) tiles.getData(pos);
+			}
+		}
+
+		return new TileChunk(chunk, x0, y0, cw, ch, chunks.modifications(chunk), ids, data);
+	}
+
+	/**
+	 * Copies the tiles of a chunk, taken from a level of the same size, over the tiles of
+	 * this one. This keeps a copy of a level up to date, like the one the render thread
+	 * draws from.
+	 */
+	public void loadChunk(TileChunk chunk) {
+		for (int yo = 0; yo < chunk.h; yo++) {
+			for (int xo = 0; xo < chunk.w; xo++) {
+				int pos = (chunk.x + xo) + (chunk.y + yo) * w;
+				int id = chunk.getId(xo, yo);
+				int data = chunk.getData(xo, yo);
+				if (tiles.getId(pos) != id || tiles.getData(pos) != data) {
+					setTile(chunk.x + xo, chunk.y + yo, Tiles.get(id), data);
+				}
+			}
+		}
 	}
 
 	public void add(Entity entity) {
@@ -711,16 +1069,12 @@ public class Level {
 		entity.setLevel(this, x, y);
 
 		entitiesToRemove.remove(entity); // to make sure the most recent request is satisfied.
-		if (!entitiesToAdd.contains(entity)) {
-			entitiesToAdd.add(entity);
-		}
+		entitiesToAdd.add(entity);
 	}
 
 	public void remove(Entity entity) {
 		entitiesToAdd.remove(entity);
-		if (!entitiesToRemove.contains(entity)) {
-			entitiesToRemove.add(entity);
-		}
+		entitiesToRemove.add(entity);
 	}
 
 	private void trySpawn() {
@@ -847,25 +1201,73 @@ public class Level {
 	}
 
 	public void removeAllEnemies() {
-		for (Entity entity: getEntityArray()) {
-			if (entity instanceof EnemyMob) {
-				// don't remove the airwizard bosses! Unless in creative, since you can spawn more.
-				if (!(entity instanceof AirWizard) || Game.isMode("Creative")) {
-					entity.remove();
-				}
+		for (Entity entity: entitiesByType.get(EnemyMob.class).snapshot()) {
+			// don't remove the airwizard bosses! Unless in creative, since you can spawn more.
+			if (!(entity instanceof AirWizard) || Game.isMode("Creative")) {
+				entity.remove();
 			}
 		}
 	}
 
 	public void clearEntities() {
+		for (Entity entity: entities.snapshot()) {
+			entityGrid.remove(entity);
+			Network.unregisterEntity(entity);
+		}
 		entities.clear();
+		entitiesByType.clear();
+		despawnCandidates.clear();
+		if (lightSources != null) {
+			lightSources.clearLanterns();
+		}
+	}
+
+	/**
+	 * Updates the spatial index after an entity changed its position.
+	 * Called by {@link Entity#move}, teleports get picked up on the next tick.
+	 */
+	public void entityMoved(Entity entity) {
+		entityGrid.update(entity);
+		if (entity instanceof Lantern && lightSources != null) {
+			lightSources.moveLantern(entity);
+		}
+	}
+
+	/**
+	 * Gets the entities that may be inside the given area (in entity coordinates), from the
+	 * spatial index. The list can contain entities outside the area, so filter it afterwards.
+	 */
+	private List<Entity> getEntitiesNear(int left, int top, int right, int bottom) {
+		List<Entity> candidates = new ArrayList<>();
+		entityGrid.collect(left, top, right, bottom, candidates);
+		return candidates;
+	}
+
+	/**
+	 * Same as getEntitiesNear, but adds them to the given list, so the caller can reuse it.
+	 * Used as the broad phase of the collision checks in {@link Entity#move}.
+	 */
+	public void collectEntitiesNear(int left, int top, int right, int bottom, List<Entity> out) {
+		entityGrid.collect(left, top, right, bottom, out);
 	}
 
+	/**
+	 * Gets all the entities and sparks of the level. The array is shared and only rebuilt
+	 * when an entity was added or removed, so it must not be modified.
+	 */
 	public Entity[] getEntityArray() {
-	    ArrayList<Entity> entitiesList = new ArrayList<Entity>();
-	    entitiesList.addAll(entities);
-	    entitiesList.addAll(sparks);
-	    return entitiesList.toArray(new Entity[entitiesList.size()]);
+	    if (entityArrayGeneration != entities.generation() || entityArraySparkGeneration != sparks.generation()) {
+	        Entity[] current = entities.snapshot();
+	        Spark[] currentSparks = sparks.snapshot();
+
+	        entityArray = new Entity[current.length + currentSparks.length];
+	        System.arraycopy(current, 0, entityArray, 0, current.length);
+	        System.arraycopy(currentSparks, 0, entityArray, current.length, currentSparks.length);
+
+	        entityArrayGeneration = entities.generation();
+	        entityArraySparkGeneration = sparks.generation();
+	    }
+	    return entityArray;
 	}
 
 	public List <Entity> getEntitiesInTiles(int xt, int yt, int radius) {
@@ -904,10 +1306,10 @@ public class Level {
 	 */
 	@SafeVarargs
 	public final List<Entity> getEntitiesInTiles(int xt0, int yt0, int xt1, int yt1, boolean includeGiven, Class<? extends Entity>... entityClasses) {
-	    List<Entity> contained = new ArrayList<>();
+	    List<Entity> contained = getEntitiesNear(xt0 << 4, yt0 << 4, (xt1 << 4) + 15, (yt1 << 4) + 15);
 
-	    // Iterate through all entities in the game world
-	    for (Entity entity : getEntityArray()) {
+	    // Filter the entities near the area
+	    contained.removeIf(entity -> {
 	        // Calculate the tile coordinates of the current entity
 	        int xt = entity.x >> 4;
 	        int yt = entity.y >> 4;
@@ -923,12 +1325,11 @@ public class Level {
 	                }
 	            }
 
-	            // Add the entity to the list if it matches the criteria
-	            if (matches == includeGiven) {
-	                contained.add(entity);
-	            }
+	            // Keep the entity in the list if it matches the criteria
+	            return matches != includeGiven;
 	        }
-	    }
+	        return true;
+	    });
 
 	    return contained;
 	}
@@ -941,43 +1342,40 @@ public class Level {
 	 * @return True if there is an entity on the tile.
 	 */
 	public final boolean isEntityOnTile(int x, int y) {
-	    boolean found = false;
-	    HashMap<String, Entity> entitiesMap = new HashMap<String, Entity>();
-	    for (Entity entity: getEntityArray()) {
-	        int xt = entity.x >> 4;
-	        int yt = entity.y >> 4;
-	        entitiesMap.put(xt + "," + yt, entity);
-	    }
-	    if (entitiesMap.containsKey(x + "," + y)){
-	        found = true;
+	    for (Entity entity: getEntitiesNear(x << 4, y << 4, (x << 4) + 15, (y << 4) + 15)) {
+	        if (entity.x >> 4 == x && entity.y >> 4 == y) {
+	            return true;
+	        }
 	    }
-	    return found;
+	    return false;
 	}
 
 	public List<Entity> getEntitiesInRect(Rectangle area) {
-		List<Entity> result = new ArrayList<>();
-		for (Entity entity: getEntityArray()) {
-			if (entity.isTouching(area)) {
-				result.add(entity);
-			}
-		}
+		List<Entity> result = getEntitiesNear(area.getLeft(), area.getTop(), area.getRight(), area.getBottom());
+		result.removeIf(entity -> !entity.isTouching(area));
 		return result;
 	}
 
 	public List<Entity> getEntitiesInRect(Predicate <Entity> filter, Rectangle area) {
-		List<Entity> result = new LinkedList<>();
-		for (Entity entity: entities) {
-			if (filter.test(entity) && entity.isTouching(area)) {
-				result.add(entity);
-			}
-		}
+		List<Entity> result = getEntitiesNear(area.getLeft(), area.getTop(), area.getRight(), area.getBottom());
+		result.removeIf(entity -> entity instanceof Spark || !filter.test(entity) || !entity.isTouching(area)); // sparks are not checked here
 		return result;
 	}
 
 	/// finds all entities that are an instance of the given entity.
+	/// for the types kept in entitiesByType this is the shared bucket array, so don't modify it.
 	public Entity[] getEntitiesOfClass(Class <? extends Entity> targetClass) {
+		EntityStore<Entity> bucket = entitiesByType.get(targetClass);
+		if (bucket != null) {
+			return bucket.snapshot();
+		}
+
+		// Only look through the smallest bucket that can have them, if any
+		EntityStore<Entity> closest = entitiesByType.getClosest(targetClass);
+		Entity[] candidates = closest != null ? closest.snapshot() : getEntityArray();
+
 		ArrayList <Entity> matches = new ArrayList<>();
-		for (Entity entity: getEntityArray()) {
+		for (Entity entity: candidates) {
 			if (targetClass.isAssignableFrom(entity.getClass())) {
 				matches.add(entity);
 			}
@@ -986,12 +1384,14 @@ public class Level {
 		return matches.toArray(new Entity[0]);
 	}
 
+	/** @return the players of the level, the array is shared so don't modify it */
 	public Player[] getPlayers() {
-		return players.toArray(new Player[players.size()]);
+		return (Player[]) entitiesByType.get(Player.class).snapshot();
 	}
 	
+	/** @return the entities of the level without the sparks, the array is shared so don't modify it */
 	public Entity[] getEntities() {
-		return entities.toArray(new Entity[entities.size()]);
+		return entities.snapshot();
 	}
 
 	public Player getClosestPlayer(int x, int y) {
@@ -1107,21 +1507,40 @@ public class Level {
 		return matches;
 	}
 
-	public boolean isLight(int x, int y) {
-		for (Tile tile: getAreaTiles(x, y, 3)) {
-			if (tile instanceof TorchTile) {
-				return true;
-			}
+	/**
+	 * @return how many steps (diagonal ones too) the given tile is from the closest tile
+	 * of the given kind, so 0 when it's there. Anything over 3 away is returned as 4.
+	 */
+	public int getDistanceTo(Tile tile, int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) {
+			return TileDistanceMap.FAR;
 		}
-		
-		for (Entity entity : getEntitiesInRect(entity -> entity instanceof Lantern, new Rectangle(x, y, 8, 8, Rectangle.CENTER_DIMS))) {
-			int xx = (entity.x >> 4) - x, yy = (entity.y >> 4) - y, rr = entity.getLightRadius() - 1;
-			if (xx * xx + yy * yy < rr * rr) {
-				return true;
+
+		for (TileDistanceMap map : distanceMaps) {
+			if (map.tile == tile) {
+				return map.get(x, y);
 			}
 		}
-		
-		return false;
+
+		TileDistanceMap map = new TileDistanceMap(this, tile);
+		distanceMaps.add(map);
+		return map.get(x, y);
+	}
+
+	public boolean isLight(int x, int y) {
+		return getLightSourceCount(x, y) > 0;
+	}
+
+	/**
+	 * @return how many light sources reach the given tile: the torches within 3 tiles,
+	 * and the lanterns that are closer than their light radius minus one. Other tiles that
+	 * glow, like lava, don't count, the same as they never did for isLight().
+	 */
+	public int getLightSourceCount(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h || lightSources == null) {
+			return 0;
+		}
+		return lightSources.getSources(x, y);
 	}
 
 	@SuppressWarnings("unused")
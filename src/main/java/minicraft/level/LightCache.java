@@ -0,0 +1,123 @@
+package minicraft.level;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import minicraft.graphic.Screen;
+
+/**
+ * Keeps the light that the tiles of a level give off (lava, torches, goldroot trees...)
+ * drawn into light bitmaps of 16x16 tiles, since it only changes when those tiles do.
+ * Light from entities moves around, so the level still draws that every frame.
+ *
+ * A chunk holds the light of every tile close enough to reach into it, so a chunk is
+ * drawn again when a tile that gives off light is placed or removed in it or in any
+ * chunk next to it.
+ */
+final class LightCache {
+
+	private static final int CHUNK_SHIFT = 4; // 16x16 tiles per chunk
+	private static final int CHUNK_TILES = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_PIXELS = CHUNK_TILES << 4;
+	private static final int MAX_CHUNKS = 16;
+
+	private static final class Chunk {
+		final int[] pixels = new int[CHUNK_PIXELS * CHUNK_PIXELS];
+		boolean dark; // if there is no light in it at all
+		boolean valid;
+	}
+
+	private final Level level;
+	private final int cols, rows;
+	private final LinkedHashMap<Integer, Chunk> chunks = new LinkedHashMap<Integer, Chunk>(MAX_CHUNKS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Chunk> eldest) {
+			return size() > MAX_CHUNKS;
+		}
+	};
+
+	private int brightness = -1; // what the light radius of the tiles was multiplied with
+
+	LightCache(Level level) {
+		this.level = level;
+		cols = (level.w + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+		rows = (level.h + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+	}
+
+	/** Makes the chunks that the light of the given tile can reach draw again. */
+	void invalidate(int x, int y) {
+		int cx = x >> CHUNK_SHIFT;
+		int cy = y >> CHUNK_SHIFT;
+		for (int yy = Math.max(cy - 1, 0); yy <= Math.min(cy + 1, rows - 1); yy++) {
+			for (int xx = Math.max(cx - 1, 0); xx <= Math.min(cx + 1, cols - 1); xx++) {
+				Chunk chunk = chunks.get(xx + yy * cols);
+				if (chunk != null) {
+					chunk.valid = false;
+				}
+			}
+		}
+	}
+
+	void clear() {
+		chunks.clear();
+	}
+
+	/** Adds the light of the tiles to the screen, for the tiles from x0, y0 to x1, y1. */
+	void render(Screen screen, int x0, int y0, int x1, int y1, int brightness) {
+		if (this.brightness != brightness) {
+			this.brightness = brightness;
+			chunks.clear();
+		}
+
+		int cx0 = Math.max(x0, 0) >> CHUNK_SHIFT;
+		int cy0 = Math.max(y0, 0) >> CHUNK_SHIFT;
+		int cx1 = Math.min(x1 >> CHUNK_SHIFT, cols - 1);
+		int cy1 = Math.min(y1 >> CHUNK_SHIFT, rows - 1);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				Chunk chunk = getChunk(screen, cx, cy);
+				if (!chunk.dark) {
+					screen.blitLight(chunk.pixels, CHUNK_PIXELS, CHUNK_PIXELS, cx * CHUNK_PIXELS, cy * CHUNK_PIXELS);
+				}
+			}
+		}
+	}
+
+	private Chunk getChunk(Screen screen, int cx, int cy) {
+		int key = cx + cy * cols;
+		Chunk chunk = chunks.get(key);
+		if (chunk == null) {
+			chunk = new Chunk();
+			chunks.put(key, chunk);
+		}
+		if (!chunk.valid) {
+			draw(screen, chunk, cx, cy);
+		}
+		return chunk;
+	}
+
+	private void draw(Screen screen, Chunk chunk, int cx, int cy) {
+		Screen canvas = new Screen(screen, chunk.pixels, CHUNK_PIXELS, CHUNK_PIXELS);
+		canvas.clear(0);
+		canvas.setOffset(cx * CHUNK_PIXELS, cy * CHUNK_PIXELS);
+
+		// Tiles as far as a chunk away can still light up this one
+		int xStart = Math.max((cx - 1) << CHUNK_SHIFT, 0);
+		int yStart = Math.max((cy - 1) << CHUNK_SHIFT, 0);
+		int xEnd = Math.min((cx + 2) << CHUNK_SHIFT, level.w);
+		int yEnd = Math.min((cy + 2) << CHUNK_SHIFT, level.h);
+
+		chunk.dark = true;
+		for (int y = yStart; y < yEnd; y++) {
+			for (int x = xStart; x < xEnd; x++) {
+				int lightRadius = level.getTile(x, y).getLightRadius(level, x, y);
+				if (lightRadius > 0) {
+					canvas.renderLight((x << 4) + 8, (y << 4) + 8, lightRadius * brightness);
+					chunk.dark = false;
+				}
+			}
+		}
+		chunk.valid = true;
+	}
+}
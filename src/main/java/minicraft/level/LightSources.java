@@ -0,0 +1,115 @@
+package minicraft.level;
+
+import java.util.IdentityHashMap;
+
+import minicraft.entity.Entity;
+
+/**
+ * Keeps count of how many light sources reach every tile of a level, so asking if a tile
+ * is lit (like the spawners and mob spawning do all the time) is one array read instead
+ * of looking around it.
+ *
+ * The sources are the torches and the lanterns, the lights that have always kept mobs
+ * from spawning. A torch reaches the square of tiles TORCH_REACH tiles around it, and a
+ * lantern the tiles closer than its light radius minus one. The counts are changed when
+ * a torch is placed or removed and when a lantern is added, removed or moved to another
+ * tile, and built again when all the tiles are.
+ */
+final class LightSources {
+
+	static final int TORCH_REACH = 3; // A 7x7 square
+
+	private final int w, h;
+	private final byte[] sources; // read as unsigned, 49 torches can reach a tile and a few lanterns on top of that
+	private final IdentityHashMap<Entity, int[]> lanterns = new IdentityHashMap<>(); // the tile x, y and reach each lantern was counted with
+
+	LightSources(int w, int h) {
+		this.w = w;
+		this.h = h;
+		sources = new byte[w * h];
+	}
+
+	void addTorch(int x, int y) {
+		changeSquare(x, y, 1);
+	}
+
+	void removeTorch(int x, int y) {
+		changeSquare(x, y, -1);
+	}
+
+	void addLantern(Entity lantern) {
+		if (lanterns.containsKey(lantern)) {
+			moveLantern(lantern);
+			return;
+		}
+
+		int[] counted = { lantern.x >> 4, lantern.y >> 4, lantern.getLightRadius() - 1 };
+		lanterns.put(lantern, counted);
+		changeDisc(counted, 1);
+	}
+
+	void removeLantern(Entity lantern) {
+		int[] counted = lanterns.remove(lantern);
+		if (counted != null) {
+			changeDisc(counted, -1);
+		}
+	}
+
+	/** Counts the lantern at its current tile, if it isn't there already. */
+	void moveLantern(Entity lantern) {
+		int[] counted = lanterns.get(lantern);
+		if (counted == null || (counted[0] == lantern.x >> 4 && counted[1] == lantern.y >> 4)) {
+			return;
+		}
+
+		changeDisc(counted, -1);
+		counted[0] = lantern.x >> 4;
+		counted[1] = lantern.y >> 4;
+		changeDisc(counted, 1);
+	}
+
+	void clearLanterns() {
+		for (int[] counted : lanterns.values()) {
+			changeDisc(counted, -1);
+		}
+		lanterns.clear();
+	}
+
+	/** @return how many torches and lanterns reach the given tile. */
+	int getSources(int x, int y) {
+		return sources[x + y * w] & 0xFF;
+	}
+
+	private void changeSquare(int x, int y, int amount) {
+		int x0 = Math.max(x - TORCH_REACH, 0);
+		int y0 = Math.max(y - TORCH_REACH, 0);
+		int x1 = Math.min(x + TORCH_REACH, w - 1);
+		int y1 = Math.min(y + TORCH_REACH, h - 1);
+
+		for (int yy = y0; yy <= y1; yy++) {
+			for (int xx = x0; xx <= x1; xx++) {
+				sources[xx + yy * w] += amount;
+			}
+		}
+	}
+
+	private void changeDisc(int[] lantern, int amount) {
+		int x = lantern[0], y = lantern[1], reach = lantern[2];
+		if (reach <= 0) {
+			return;
+		}
+
+		int x0 = Math.max(x - reach, 0);
+		int y0 = Math.max(y - reach, 0);
+		int x1 = Math.min(x + reach, w - 1);
+		int y1 = Math.min(y + reach, h - 1);
+
+		for (int yy = y0; yy <= y1; yy++) {
+			for (int xx = x0; xx <= x1; xx++) {
+				if ((xx - x) * (xx - x) + (yy - y) * (yy - y) < reach * reach) {
+					sources[xx + yy * w] += amount;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package minicraft.level;
+
+/**
+ * A copy of the tiles of one chunk of a level, as returned by {@link Level#getChunkSnapshot(int)}.
+ * It doesn't change when the level does; compare {@link #modifications} with
+ * {@link Level#getChunkModifications(int)} to see if it is out of date.
+ */
+public class TileChunk {
+
+	public final int index; // which chunk this is
+	public final int x, y; // tile coordinates of the top left corner
+	public final int w, h; // the chunks on the right and bottom edge can be smaller
+	public final int modifications;
+
+	private final short[] ids;
+	private final byte[] data;
+
+	TileChunk(int index, int x, int y, int w, int h, int modifications, short[] ids, byte[] data) {
+		this.index = index;
+		this.x = x;
+		this.y = y;
+		this.w = w;
+		this.h = h;
+		this.modifications = modifications;
+		this.ids = ids;
+		this.data = data;
+	}
+
+	/** @return the id of the tile at the given coordinates, relative to the chunk. */
+	public int getId(int xo, int yo) {
+		return ids[xo + yo * w];
+	}
+
+	/** @return the data of the tile at the given coordinates, relative to the chunk. */
+	public int getData(int xo, int yo) {
+		return data[xo + yo * w] & 0xFF;
+	}
+}
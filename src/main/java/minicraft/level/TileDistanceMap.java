@@ -0,0 +1,106 @@
+package minicraft.level;
+
+import java.util.Arrays;
+
+import minicraft.level.tile.Tile;
+
+/**
+ * How far every position of a level is from the closest tile of one kind, like how far
+ * crops are from water. The distance is the number of steps in any of the 8 directions,
+ * so the tiles within a distance of r make up the square of r tiles around a position.
+ *
+ * Distances over MAX_DISTANCE are all stored as FAR, since nothing looks further than
+ * that. The map is built once with a search outwards from all the tiles at once, and
+ * after that only the positions around a changed tile are updated.
+ */
+final class TileDistanceMap {
+
+	static final int MAX_DISTANCE = 3; // The farthest any crop looks for water
+	static final int FAR = MAX_DISTANCE + 1;
+
+	final Tile tile;
+
+	private final Level level;
+	private final byte[] distances;
+
+	TileDistanceMap(Level level, Tile tile) {
+		this.level = level;
+		this.tile = tile;
+		distances = new byte[level.w * level.h];
+		build();
+	}
+
+	int get(int x, int y) {
+		return distances[x + y * level.w];
+	}
+
+	/** Updates the positions around a spot where the tile was placed or removed. */
+	void changed(int x, int y, boolean placed) {
+		int x0 = Math.max(x - MAX_DISTANCE, 0);
+		int y0 = Math.max(y - MAX_DISTANCE, 0);
+		int x1 = Math.min(x + MAX_DISTANCE, level.w - 1);
+		int y1 = Math.min(y + MAX_DISTANCE, level.h - 1);
+
+		for (int yy = y0; yy <= y1; yy++) {
+			for (int xx = x0; xx <= x1; xx++) {
+				int pos = xx + yy * level.w;
+				if (placed) {
+					distances[pos] = (byte) Math.min(distances[pos], Math.max(Math.abs(xx - x), Math.abs(yy - y)));
+				} else {
+					distances[pos] = (byte) find(xx, yy);
+				}
+			}
+		}
+	}
+
+	private void build() {
+		Arrays.fill(distances, (byte) FAR);
+
+		int[] queue = new int[distances.length];
+		int head = 0, tail = 0;
+		for (int pos = 0; pos < distances.length; pos++) {
+			if (level.getTile(pos % level.w, pos / level.w) == tile) {
+				distances[pos] = 0;
+				queue[tail++] = pos;
+			}
+		}
+
+		while (head < tail) {
+			int pos = queue[head++];
+			int distance = distances[pos] + 1;
+			if (distance > MAX_DISTANCE) {
+				continue;
+			}
+
+			int x = pos % level.w, y = pos / level.w;
+			for (int yy = Math.max(y - 1, 0); yy <= Math.min(y + 1, level.h - 1); yy++) {
+				for (int xx = Math.max(x - 1, 0); xx <= Math.min(x + 1, level.w - 1); xx++) {
+					int next = xx + yy * level.w;
+					if (distances[next] > distance) {
+						distances[next] = (byte) distance;
+						queue[tail++] = next;
+					}
+				}
+			}
+		}
+	}
+
+	/** @return the distance of the given position to the closest tile, found by looking in rings around it. */
+	private int find(int x, int y) {
+		for (int r = 0; r <= MAX_DISTANCE; r++) {
+			for (int yy = y - r; yy <= y + r; yy++) {
+				if (yy < 0 || yy >= level.h) {
+					continue;
+				}
+
+				int step = (yy == y - r || yy == y + r) ? 1 : r * 2; // Only the edge of the ring
+				for (int xx = x - r; xx <= x + r; xx += Math.max(step, 1)) {
+					if (xx >= 0 && xx < level.w && level.getTile(xx, yy) == tile) {
+						return r;
+					}
+				}
+			}
+		}
+		return FAR;
+	}
+}
@@ -0,0 +1,152 @@
+package minicraft.level;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import minicraft.graphic.Screen;
+import minicraft.level.tile.Tile;
+
+/**
+ * Keeps the tiles of recently seen parts of a level drawn into bitmaps of 16x16 tiles,
+ * so the background of a frame is mostly copying rows of pixels instead of drawing
+ * every tile again.
+ *
+ * A chunk gets drawn again after one of its tiles, or a tile next to it, was changed,
+ * and all of them after the sprite sheets changed. Animated tiles are left out of the
+ * bitmap and drawn on top of it every frame.
+ */
+final class TileRenderCache {
+
+	private static final int CHUNK_SHIFT = 4; // 16x16 tiles per chunk
+	private static final int CHUNK_TILES = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_PIXELS = CHUNK_TILES << 4;
+	// A 432x288 screen over chunks of 256x256 pixels shows parts of at most 3x3 chunks. Walking
+	// diagonally over a chunk corner brings in 5 more, so 16 keeps those 14 and a couple more.
+	private static final int MAX_CHUNKS = 16;
+
+	private static final int EMPTY = 0x80000000; // What a pixel is when no tile drew on it; no color ever is this
+
+	private static final class Chunk {
+		final int[] pixels = new int[CHUNK_PIXELS * CHUNK_PIXELS];
+		int[] animated = new int[0]; // positions of the animated tiles in the chunk
+		boolean holes; // if any pixel was left EMPTY
+		boolean valid;
+	}
+
+	private final Level level;
+	private final int cols, rows;
+	private final LinkedHashMap<Integer, Chunk> chunks = new LinkedHashMap<Integer, Chunk>(MAX_CHUNKS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Chunk> eldest) {
+			return size() > MAX_CHUNKS;
+		}
+	};
+
+	private int sheetChanges = -1;
+
+	TileRenderCache(Level level) {
+		this.level = level;
+		cols = (level.w + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+		rows = (level.h + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+	}
+
+	/** Makes the chunks that show the given tile, or a neighbour of it, draw again. */
+	void invalidate(int x, int y) {
+		int cx0 = Math.max((x - 1) >> CHUNK_SHIFT, 0);
+		int cy0 = Math.max((y - 1) >> CHUNK_SHIFT, 0);
+		int cx1 = Math.min((x + 1) >> CHUNK_SHIFT, cols - 1);
+		int cy1 = Math.min((y + 1) >> CHUNK_SHIFT, rows - 1);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				Chunk chunk = chunks.get(cx + cy * cols);
+				if (chunk != null) {
+					chunk.valid = false;
+				}
+			}
+		}
+	}
+
+	void clear() {
+		chunks.clear();
+	}
+
+	/** Draws the tiles from x0, y0 to x1, y1 (inclusive) that are inside the level. */
+	void render(Screen screen, int x0, int y0, int x1, int y1) {
+		if (sheetChanges != screen.getSheetChanges()) {
+			sheetChanges = screen.getSheetChanges();
+			chunks.clear();
+		}
+
+		int cx0 = Math.max(x0, 0) >> CHUNK_SHIFT;
+		int cy0 = Math.max(y0, 0) >> CHUNK_SHIFT;
+		int cx1 = Math.min(x1 >> CHUNK_SHIFT, cols - 1);
+		int cy1 = Math.min(y1 >> CHUNK_SHIFT, rows - 1);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				Chunk chunk = getChunk(screen, cx, cy);
+				screen.blit(chunk.pixels, CHUNK_PIXELS, CHUNK_PIXELS, cx * CHUNK_PIXELS, cy * CHUNK_PIXELS, chunk.holes, EMPTY);
+
+				for (int position : chunk.animated) {
+					int x = position % level.w;
+					int y = position / level.w;
+					if (x >= x0 && x <= x1 && y >= y0 && y <= y1) {
+						level.getTile(x, y).render(screen, level, x, y);
+					}
+				}
+			}
+		}
+	}
+
+	private Chunk getChunk(Screen screen, int cx, int cy) {
+		int key = cx + cy * cols;
+		Chunk chunk = chunks.get(key);
+		if (chunk == null) {
+			chunk = new Chunk();
+			chunks.put(key, chunk);
+		}
+		if (!chunk.valid) {
+			draw(screen, chunk, cx, cy);
+		}
+		return chunk;
+	}
+
+	private void draw(Screen screen, Chunk chunk, int cx, int cy) {
+		Arrays.fill(chunk.pixels, EMPTY);
+		Screen canvas = new Screen(screen, chunk.pixels, CHUNK_PIXELS, CHUNK_PIXELS);
+		canvas.setOffset(cx * CHUNK_PIXELS, cy * CHUNK_PIXELS);
+
+		int[] animated = new int[CHUNK_TILES * CHUNK_TILES];
+		int count = 0;
+
+		int xEnd = Math.min((cx + 1) << CHUNK_SHIFT, level.w);
+		int yEnd = Math.min((cy + 1) << CHUNK_SHIFT, level.h);
+		for (int y = cy << CHUNK_SHIFT; y < yEnd; y++) {
+			for (int x = cx << CHUNK_SHIFT; x < xEnd; x++) {
+				Tile tile = level.getTile(x, y);
+				if (tile.isAnimated()) {
+					// Gets drawn over every frame, so it doesn't need to count as a hole
+					animated[count++] = x + y * level.w;
+					int start = ((x - (cx << CHUNK_SHIFT)) << 4) + ((y - (cy << CHUNK_SHIFT)) << 4) * CHUNK_PIXELS;
+					for (int row = 0; row < 16; row++) {
+						Arrays.fill(chunk.pixels, start + row * CHUNK_PIXELS, start + row * CHUNK_PIXELS + 16, 0);
+					}
+				} else {
+					tile.render(canvas, level, x, y);
+				}
+			}
+		}
+
+		chunk.animated = Arrays.copyOf(animated, count);
+		chunk.holes = false;
+		for (int color : chunk.pixels) {
+			if (color == EMPTY) {
+				chunk.holes = true;
+				break;
+			}
+		}
+		chunk.valid = true;
+	}
+}
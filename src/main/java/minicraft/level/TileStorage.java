@@ -0,0 +1,86 @@
+package minicraft.level;
+
+import java.util.Arrays;
+
+/**
+ * The tile ids and tile data of a level, at two bytes per tile.
+ *
+ * Almost every tile id fits in a byte, so ids are kept in a byte array and the few that
+ * don't (torches, whose ids start at 16384) go into a small overflow table, marked by
+ * {@link #OVERFLOW} in the byte array. The table is sorted by tile index and searched
+ * by halving, since there are only ever a few of those tiles. Tile data is only ever
+ * read as a byte.
+ */
+final class TileStorage {
+
+	private static final int OVERFLOW = 0xFF; // ids from this one up are kept in the overflow table
+
+	private final byte[] ids;
+	private final byte[] data;
+
+	// The overflow table: sorted tile indices, and the id of each
+	private int[] overflowIndices = new int[8];
+	private short[] overflowIds = new short[8];
+	private int overflowCount = 0;
+
+	TileStorage(int size) {
+		ids = new byte[size];
+		data = new byte[size];
+	}
+
+	/** Packs the arrays made by the level generator and the loaders. */
+	TileStorage(short[] ids, short[] data) {
+		this(ids.length);
+		for (int i = 0; i < ids.length; i++) {
+			setId(i, ids[i]);
+			this.data[i] = (byte) data[i];
+		}
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	int getId(int index) {
+		int id = ids[index] & 0xFF;
+		if (id == OVERFLOW) {
+			return overflowIds[Arrays.binarySearch(overflowIndices, 0, overflowCount, index)];
+		}
+		return id;
+	}
+
+	void setId(int index, short id) {
+		if ((id & 0xFFFF) >= OVERFLOW) {
+			int slot = Arrays.binarySearch(overflowIndices, 0, overflowCount, index);
+			if (slot < 0) {
+				slot = -slot - 1;
+				if (overflowCount == overflowIndices.length) {
+					overflowIndices = Arrays.copyOf(overflowIndices, overflowCount * 2);
+					overflowIds = Arrays.copyOf(overflowIds, overflowCount * 2);
+				}
+				System.arraycopy(overflowIndices, slot, overflowIndices, slot + 1, overflowCount - slot);
+				System.arraycopy(overflowIds, slot, overflowIds, slot + 1, overflowCount - slot);
+				overflowIndices[slot] = index;
+				overflowCount++;
+			}
+			overflowIds[slot] = id;
+			ids[index] = (byte) OVERFLOW;
+		} else {
+			if ((ids[index] & 0xFF) == OVERFLOW) {
+				int slot = Arrays.binarySearch(overflowIndices, 0, overflowCount, index);
+				System.arraycopy(overflowIndices, slot + 1, overflowIndices, slot, overflowCount - slot - 1);
+				System.arraycopy(overflowIds, slot + 1, overflowIds, slot, overflowCount - slot - 1);
+				overflowCount--;
+			}
+			ids[index] = (byte) id;
+		}
+	}
+
+	int getData(int index) {
+		return data[index] & 0xFF;
+	}
+
+	void setData(int index, int value) {
+		data[index] = (byte) value;
+	}
+}
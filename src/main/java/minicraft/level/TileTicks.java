@@ -0,0 +1,54 @@
+package minicraft.level;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The positions of a level that hold a tile that does something on a random tick, so the
+ * random ticks don't get spent on rock, walls and the like.
+ *
+ * Positions are added when such a tile is placed, but not removed when it is replaced;
+ * instead the level drops a position when it picks it and finds a tile there that doesn't
+ * tick anymore. That way nothing needs to know where in the list a position is.
+ */
+final class TileTicks {
+
+	private final BitSet listed; // which positions are in the list
+	private int[] positions = new int[64];
+	private int size = 0;
+
+	TileTicks(int area) {
+		listed = new BitSet(area);
+	}
+
+	int size() {
+		return size;
+	}
+
+	int get(int index) {
+		return positions[index];
+	}
+
+	void add(int position) {
+		if (listed.get(position)) {
+			return;
+		}
+
+		if (size == positions.length) {
+			positions = Arrays.copyOf(positions, size * 2);
+		}
+		positions[size++] = position;
+		listed.set(position);
+	}
+
+	/** Drops the position at the given index, moving the last one into its place. */
+	void removeAt(int index) {
+		listed.clear(positions[index]);
+		positions[index] = positions[--size];
+	}
+
+	void clear() {
+		listed.clear();
+		size = 0;
+	}
+}
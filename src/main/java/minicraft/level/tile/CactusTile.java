@@ -15,18 +15,16 @@ import minicraft.item.Items;
 import minicraft.level.Level;
 
 public class CactusTile extends Tile {
+    private static final Tiles.Handle SAND = Tiles.handle("Sand");
+
     private static final Sprite sprite = new Sprite(65, 0, 2, 2, 1);
 
     protected CactusTile(String name) {
         super(name, sprite);
+        passableBy = 0;
         connectsToSand = true;
     }
 
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return false;
-    }
-
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
         int damage = level.getData(x, y) + hurtDamage;
@@ -51,7 +49,7 @@ public class CactusTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-    	Tiles.get("Sand").render(screen, level, x, y);
+    	SAND.get().render(screen, level, x, y);
         sprite.render(screen, x << 4, y << 4);
     }
 
@@ -66,6 +64,11 @@ public class CactusTile extends Tile {
         }
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
@@ -19,18 +19,16 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class CloudCactusTile extends Tile {
+    private static final Tiles.Handle FERROSITE = Tiles.handle("Ferrosite");
+
     private static final Sprite sprite = new Sprite(65, 2, 2, 2, 1);
 
     protected CloudCactusTile(String name) {
         super(name, sprite);
+        passableBy = Entity.AIR_WIZARD;
         connectsToFerrosite = true;
     }
     
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return entity instanceof AirWizard;
-    }
-
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
         hurt(level, x, y, hurtDamage);
@@ -78,7 +76,7 @@ public class CloudCactusTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Ferrosite").render(screen, level, x, y);
+        FERROSITE.get().render(screen, level, x, y);
         sprite.render(screen, x << 4, y << 4);
     }
 
@@ -19,11 +19,16 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class CloudTile extends Tile {
+	private static final Tiles.Handle INFINITE_FALL = Tiles.handle("Infinite fall");
+	private static final Tiles.Handle FERROSITE = Tiles.handle("Ferrosite");
+	private static final Tiles.Handle CLOUD_CACTUS = Tiles.handle("Cloud cactus");
+	private static final Tiles.Handle GOLDROOT_TREE = Tiles.handle("Goldroot Tree");
+
 	private static ConnectorSprite sprite = new ConnectorSprite(CloudTile.class, new Sprite(0, 21, 3, 3, 1), new Sprite(5, 21, 2, 2, 1), new Sprite(3, 21, 2, 2, 1)) {
 		
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) { // Cloud tile cannot connect with these tiles
-			return tile != Tiles.get("Infinite fall") && tile != Tiles.get("Ferrosite") && tile != Tiles.get("Cloud cactus") && tile != Tiles.get("Goldroot Tree");
+			return tile != INFINITE_FALL.get() && tile != FERROSITE.get() && tile != CLOUD_CACTUS.get() && tile != GOLDROOT_TREE.get();
 		}
 	};
 	
@@ -39,7 +44,7 @@ public class CloudTile extends Tile {
 	
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Ferrosite").render(screen, level, x, y);
+		FERROSITE.get().render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 	
@@ -1,6 +1,5 @@
 package minicraft.level.tile;
 
-import minicraft.entity.Entity;
 import minicraft.graphic.Sprite;
 import minicraft.level.Level;
 
@@ -10,11 +9,7 @@ public class ConnectTile extends Tile {
 
 	public ConnectTile() {
 		super("connector tile", sprite);
-	}
-
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return false;
+		passableBy = 0;
 	}
 
 	@Override
@@ -1,6 +1,5 @@
 package minicraft.level.tile;
 
-import minicraft.entity.Entity;
 import minicraft.graphic.ConnectorSprite;
 import minicraft.graphic.Screen;
 import minicraft.graphic.Sprite;
@@ -21,11 +20,6 @@ public class ExplodedTile extends Tile {
 		connectsToFluid = true;
 	}
 
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return true;
-	}
-	
     public void render(Screen screen, Level level, int x, int y) {
     	switch (level.depth) {
 			case 1: Tiles.get("Infinite fall").render(screen, level, x, y); break; // Sky.
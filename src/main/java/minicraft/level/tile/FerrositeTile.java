@@ -17,10 +17,12 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class FerrositeTile extends Tile {
+    private static final Tiles.Handle INFINITE_FALL = Tiles.handle("Infinite fall");
+
     private static ConnectorSprite sprite = new ConnectorSprite(FerrositeTile.class, new Sprite(9, 21, 3, 3, 1), new Sprite(14, 21, 2, 2, 1), new Sprite(12, 21, 2, 2, 1)) {
         @Override
         public boolean connectsTo(Tile tile, boolean isSide) {
-            return tile != Tiles.get("Infinite fall");
+            return tile != INFINITE_FALL.get();
         }
     };
     
@@ -2,7 +2,6 @@ package minicraft.level.tile;
 
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
-import minicraft.entity.Entity;
 import minicraft.entity.mob.Player;
 import minicraft.graphic.Sprite;
 import minicraft.item.Item;
@@ -74,9 +73,4 @@ public class FloorTile extends Tile {
 		}
 		return false;
 	}
-
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return true;
-	}
 }
@@ -14,6 +14,9 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class FlowerTile extends Tile {
+	private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+	private static final Tiles.Handle GRASS = Tiles.handle("Grass");
+
 	
 	public enum Flower {
 		DAISY("Daisy", new Sprite(5, 11, 1)),
@@ -55,15 +58,15 @@ public class FlowerTile extends Tile {
 			yn += (random.nextInt(2) * 2) - 1;
 		}
 
-		if (level.getTile(xn, yn) == Tiles.get("Dirt")) {
-			level.setTile(xn, yn, Tiles.get("Grass"));
+		if (level.getTile(xn, yn) == DIRT.get()) {
+			level.setTile(xn, yn, GRASS.get());
 		}
 		return false;
 	}
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Grass").render(screen, level, x, y);
+		GRASS.get().render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
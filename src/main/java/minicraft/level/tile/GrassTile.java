@@ -13,6 +13,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class GrassTile extends Tile {
+	private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+
 	private static final ConnectorSprite sprite = new ConnectorSprite(GrassTile.class, new Sprite(0, 11, 3, 3, 1), new Sprite(3, 11, 2, 2, 1)) {
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
@@ -99,7 +101,7 @@ public class GrassTile extends Tile {
 	        case 1: yn += random.nextInt(2) * 2 - 1; break;
 	    }
 
-	    if (level.getTile(xn, yn) == Tiles.get("Dirt")) {
+	    if (level.getTile(xn, yn) == DIRT.get()) {
 	        level.setTile(xn, yn, this);
 	    }
 	    return false;
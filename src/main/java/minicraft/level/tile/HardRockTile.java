@@ -4,7 +4,6 @@ import minicraft.core.Game;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.mob.Firefly;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.SmashParticle;
@@ -25,11 +24,7 @@ public class HardRockTile extends Tile {
 
     protected HardRockTile(String name) {
         super(name, sprite);
-    }
-
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return entity instanceof Firefly;
+        passableBy = Entity.FIREFLY;
     }
 
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
@@ -91,6 +86,11 @@ public class HardRockTile extends Tile {
         super.render(screen, level, x, y);
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
         if (damage > 0) {
@@ -17,14 +17,11 @@ public class HoleTile extends Tile {
 
 	protected HoleTile(String name) {
 		super(name, sprite);
+		passableBy = Entity.SWIMMER;
 		connectsToSand = false;
 		connectsToFluid = true;
 	}
 
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity.canSwim();
-	}
-
 	public void render(Screen screen, Level level, int x, int y) {
 		sprite.sparse.color = DirtTile.dirtColor(level.depth);
 		sprite.render(screen, level, x, y);
@@ -4,7 +4,6 @@ import minicraft.core.Game;
 import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
-import minicraft.entity.Entity;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.SmashParticle;
@@ -28,6 +27,7 @@ public class HolyRockTile extends Tile {
 
     protected HolyRockTile(String name) {
         super(name, (ConnectorSprite) null);
+        passableBy = 0;
         connectorSprite = sprite;
         connectsToSkyHighGrass = true;
         connectsToSkyGrass = true;
@@ -38,11 +38,6 @@ public class HolyRockTile extends Tile {
     	sprite.render(screen, level, x, y);
     }
 
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return false;
-    }
-
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
         hurt(level, x, y, hurtDamage);
@@ -101,6 +96,11 @@ public class HolyRockTile extends Tile {
         }
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
@@ -15,10 +15,13 @@ import minicraft.item.Items;
 import minicraft.level.Level;
 
 public class IceSpikeTile extends Tile {
+	private static final Tiles.Handle SNOW = Tiles.handle("Snow");
+
 	private static Sprite sprite = new Sprite(15, 16, 1);
 
 	protected IceSpikeTile(String name) {
 		super(name, sprite);
+		passableBy = 0;
 		connectsToSnow = true;
 	}
 
@@ -55,14 +58,9 @@ public class IceSpikeTile extends Tile {
 		return true;
 	}
 
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return false;
-	}
-
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Snow").render(screen, level, x, y);
+		SNOW.get().render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -74,6 +72,11 @@ public class IceSpikeTile extends Tile {
 		sprite.render(screen, x + 8 * (shape == 0 ? 1 : 0), y + 8);
 	}
 
+	@Override
+	public boolean ticksWith(int data) {
+		return data > 0; // only heals damage
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
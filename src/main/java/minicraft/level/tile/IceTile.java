@@ -13,6 +13,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class IceTile extends Tile {
+	private static final Tiles.Handle WATER = Tiles.handle("Water");
+
 	private static ConnectorSprite sprite = new ConnectorSprite(IceTile.class, new Sprite(18, 16, 3, 3, 1), new Sprite(21, 16, 2, 2, 1)) {
 
 		@Override
@@ -48,9 +50,14 @@ public class IceTile extends Tile {
 		return false;
 	}
 
+	@Override
+	public boolean isAnimated() {
+		return true; // drawn over moving water
+	}
+
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Water").render(screen, level, x, y);
+		WATER.get().render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -15,6 +15,11 @@ public class InfiniteFallTile extends Tile {
         super(name, (Sprite) null);
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
         if (damage > 0) {
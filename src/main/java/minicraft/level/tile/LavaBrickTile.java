@@ -18,6 +18,7 @@ public class LavaBrickTile extends Tile {
 
 	protected LavaBrickTile(String name) {
 		super(name, sprite);
+		passableBy = Entity.WOOL_WALKER;
 	}
 
 	public void bumpedInto(Level level, int x, int y, Entity entity) {
@@ -44,8 +45,4 @@ public class LavaBrickTile extends Tile {
 		}
 		return false;
 	}
-
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity.canWool();
-	}
 }
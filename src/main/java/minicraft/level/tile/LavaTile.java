@@ -1,5 +1,6 @@
 package minicraft.level.tile;
 
+import minicraft.entity.Direction;
 import minicraft.entity.Entity;
 import minicraft.graphic.ConnectorSprite;
 import minicraft.graphic.Screen;
@@ -7,6 +8,8 @@ import minicraft.graphic.Sprite;
 import minicraft.level.Level;
 
 public class LavaTile extends Tile {
+	private static final Tiles.Handle HOLE = Tiles.handle("Hole");
+
 	private ConnectorSprite sprite = new ConnectorSprite(LavaTile.class, new Sprite(27, 21, 3, 3, 1), Sprite.dots(0)) {
 		public boolean connectsTo(Tile tile, boolean isSide) {
 			return tile.connectsToFluid;
@@ -15,6 +18,7 @@ public class LavaTile extends Tile {
 
 	protected LavaTile(String name) {
 		super(name, (ConnectorSprite) null);
+		passableBy = Entity.SWIMMER;
 		super.connectorSprite = sprite;
 		connectsToSand = false;
 		connectsToFluid = true;
@@ -25,8 +29,9 @@ public class LavaTile extends Tile {
 		return 4;
 	}
 
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity.canSwim();
+	@Override
+	public boolean isAnimated() {
+		return true; // the dots move with the tick count
 	}
 
 	public void render(Screen screen, Level level, int x, int y) {
@@ -36,19 +41,26 @@ public class LavaTile extends Tile {
 		sprite.render(screen, level, x, y);
 	}
 
-	public boolean tick(Level level, int xt, int yt) {
-		int xn = xt;
-		int yn = yt;
-
-		if (random.nextBoolean()) {
-			xn += random.nextInt(2) * 2 - 1;
-		} else {
-			yn += random.nextInt(2) * 2 - 1;
+	@Override
+	public boolean canFlow(Level level, int xt, int yt) {
+		Tile holeTile = HOLE.get();
+		for (Direction dir : FLOW_DIRECTIONS) {
+			if (level.getTile(xt + dir.getX(), yt + dir.getY()) == holeTile) {
+				return true;
+			}
 		}
+		return false;
+	}
 
-		if (level.getTile(xn, yn) == Tiles.get("Hole")) {
-			level.setTile(xn, yn, this);
+	@Override
+	public void flow(Level level, int xt, int yt) {
+		Tile holeTile = HOLE.get();
+		for (Direction dir : FLOW_DIRECTIONS) {
+			int xn = xt + dir.getX();
+			int yn = yt + dir.getY();
+			if (level.getTile(xn, yn) == holeTile) {
+				level.setTile(xn, yn, this);
+			}
 		}
-		return false;
 	}
 }
@@ -13,6 +13,9 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class LawnTile extends Tile {
+    private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+    private static final Tiles.Handle GRASS = Tiles.handle("Grass");
+
     private static final Sprite sprite = new Sprite(3, 13, 1);
 
     protected LawnTile(String name) {
@@ -35,14 +38,14 @@ public class LawnTile extends Tile {
             yn += (random.nextInt(2) * 2) - 1;
         }
 
-        if (level.getTile(xn, yn) == Tiles.get("Dirt")) {
-            level.setTile(xn, yn, Tiles.get("Grass"));
+        if (level.getTile(xn, yn) == DIRT.get()) {
+            level.setTile(xn, yn, GRASS.get());
         }
         return false;
     }
 
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Grass").render(screen, level, x, y);
+        GRASS.get().render(screen, level, x, y);
 
         int data = level.getData(x, y);
         int shape = (data >> 4) % 2;
@@ -5,7 +5,6 @@ import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.mob.Firefly;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.TextParticle;
@@ -21,11 +20,13 @@ import minicraft.level.Level;
 import minicraft.screen.AchievementsDisplay;
 
 public class MossyRockTile extends Tile {
+	private static final Tiles.Handle MOSSY_ROCK = Tiles.handle("Mossy Rock");
+
 	private ConnectorSprite sprite = new ConnectorSprite(MossyRockTile.class, new Sprite(58, 1, 3, 3, 1), new Sprite(61, 3, 2, 2, 1), new Sprite(61, 1, 2, 2, 1)) {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
-			return tile == Tiles.get("Mossy Rock");
+			return tile == MOSSY_ROCK.get();
 		}
 	};
 
@@ -36,6 +37,7 @@ public class MossyRockTile extends Tile {
 
 	public MossyRockTile(String name) {
 		super(name, (ConnectorSprite) null);
+		passableBy = Entity.FIREFLY;
 		connectorSprite = sprite;
 	}
 
@@ -93,17 +95,17 @@ public class MossyRockTile extends Tile {
 		return false;
 	}
 
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity instanceof Firefly;
-	}
-
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
 		sprite.sparse.color = DirtTile.dirtColor(level.depth);
 		sprite.render(screen, level, x, y);
 	}
 
+	@Override
+	public boolean ticksWith(int data) {
+		return data > 0; // only heals damage
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		damage = level.getData(xt, yt);
@@ -14,6 +14,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class MushroomTile extends Tile {
+	private static final Tiles.Handle MYCELIUM = Tiles.handle("Mycelium");
+
 	
 	public enum MushroomType {
 		Brown(new Sprite(33, 16, 1), "Brown Mushroom"),
@@ -65,7 +67,7 @@ public class MushroomTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Mycelium").render(screen, level, x, y);
+		MYCELIUM.get().render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -77,6 +79,11 @@ public class MushroomTile extends Tile {
 		type.sprite.render(screen, x + 8 * (shape == 0 ? 1 : 0), y + 8);
 	}
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
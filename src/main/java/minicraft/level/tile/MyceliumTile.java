@@ -13,6 +13,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class MyceliumTile extends Tile {
+	private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+
 	private static ConnectorSprite sprite = new ConnectorSprite(MyceliumTile.class, new Sprite(27, 16, 3, 3, 1), new Sprite(30, 16, 2, 2, 1)) {
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
@@ -82,10 +84,15 @@ public class MyceliumTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Dirt").render(screen, level, x, y);
+		DIRT.get().render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
+	@Override
+	public boolean ticksWith(int data) {
+		return false;
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		if (random.nextInt(40) != 0) {
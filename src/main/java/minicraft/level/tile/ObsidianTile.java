@@ -29,6 +29,11 @@ public class ObsidianTile extends Tile {
         maySpawn = true;
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return false;
+    }
+
     public boolean tick(Level level, int xt, int yt) {
         // TODO revise this method.
         if (random.nextInt(40) != 0) {
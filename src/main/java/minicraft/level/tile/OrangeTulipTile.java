@@ -14,6 +14,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class OrangeTulipTile extends Tile {
+	private static final Tiles.Handle GRASS = Tiles.handle("Grass");
+
 	private static final Sprite sprite = new Sprite(6, 12, 1);
 
 	protected OrangeTulipTile(String name) {
@@ -47,7 +49,7 @@ public class OrangeTulipTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Grass").render(screen, level, x, y);
+		GRASS.get().render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -20,6 +20,8 @@ import minicraft.screen.AchievementsDisplay;
 
 /// this is all the spikey stuff (except "cloud cactus")
 public class OreTile extends Tile {
+	private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+
 	public enum OreType {
 		Iron(Items.get("Iron Ore"), 42, 0),
 		Lapis(Items.get("Lapis"), 42, 2),
@@ -45,6 +47,7 @@ public class OreTile extends Tile {
 
 	protected OreTile(OreType oreType) {
 		super((oreType == OreTile.OreType.Lapis ? "Lapis" : oreType.name() + " Ore"), new Sprite(oreType.sx, oreType.sy, 2, 2, 1));
+		passableBy = 0;
 		this.type = oreType;
 	}
 
@@ -106,12 +109,8 @@ public class OreTile extends Tile {
 		return false;
 	}
 
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return false;
-	}
-
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Dirt").render(screen, level, x, y);
+		DIRT.get().render(screen, level, x, y);
 		sprite.render(screen, x << 4, y << 4);
 	}
 }
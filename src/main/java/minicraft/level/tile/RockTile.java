@@ -5,7 +5,6 @@ import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.mob.Firefly;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.SmashParticle;
@@ -24,11 +23,15 @@ import minicraft.screen.AchievementsDisplay;
 // This is the normal stone you see underground and on the surface, that drops coal and stone.
 
 public class RockTile extends Tile {
+	private static final Tiles.Handle ROCK = Tiles.handle("Rock");
+	private static final Tiles.Handle UP_ROCK = Tiles.handle("Up Rock");
+	private static final Tiles.Handle DIRT = Tiles.handle("Dirt");
+
 	private ConnectorSprite sprite = new ConnectorSprite(RockTile.class, new Sprite(0, 6, 3, 3, 1), new Sprite(5, 6, 2, 2, 1), new Sprite(3, 6, 2, 2, 1)) {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
-			return tile == Tiles.get("Rock") || tile == Tiles.get("Up Rock");
+			return tile == ROCK.get() || tile == UP_ROCK.get();
 		}
 	};
 	
@@ -36,7 +39,7 @@ public class RockTile extends Tile {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
-			return tile == Tiles.get("Rock") || tile == Tiles.get("Up Rock");
+			return tile == ROCK.get() || tile == UP_ROCK.get();
 		}
 	};
 
@@ -47,6 +50,7 @@ public class RockTile extends Tile {
 
 	protected RockTile(String name) {
 		super(name, (ConnectorSprite) null);
+		passableBy = Entity.FIREFLY;
 		connectorSprite = sprite;
 	}
 
@@ -105,22 +109,22 @@ public class RockTile extends Tile {
 		return false;
 	}
 
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity instanceof Firefly;
-	}
-
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
 		if (level.depth == -2) {
 			mossySprite.sparse.color = DirtTile.dirtColor(level.depth);
 			mossySprite.render(screen, level, x, y);
 		} else {
-			Tiles.get("Dirt").render(screen, level, x, y);
+			DIRT.get().render(screen, level, x, y);
 			sprite.render(screen, level, x, y);
 		}
 	}
 
+	@Override
+	public boolean ticksWith(int data) {
+		return data > 0; // only heals damage
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		damage = level.getData(xt, yt);
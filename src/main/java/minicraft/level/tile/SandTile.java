@@ -101,6 +101,11 @@ public class SandTile extends Tile {
         }
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int x, int y) {
         int damage = level.getData(x, y);
@@ -15,6 +15,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class SkyFernTile extends Tile {
+    private static final Tiles.Handle SKY_GRASS = Tiles.handle("Sky Grass");
+
     private static Sprite sprite = new Sprite(27, 22, 2, 2, 1);
     private int spriteFrame = 0;
 
@@ -52,7 +54,7 @@ public class SkyFernTile extends Tile {
     @Override
     public void render(Screen screen, Level level, int x, int y) {
     	fernAttackTick++;
-        Tiles.get("Sky Grass").render(screen, level, x, y);
+        SKY_GRASS.get().render(screen, level, x, y);
         if (playerStepped && fernAttackTick / 8 % 2 == 0) {
             spriteFrame = (spriteFrame + 2) % 4 ;
             sprite = new Sprite(spriteFrame + 27, 22, 2, 2, 1);
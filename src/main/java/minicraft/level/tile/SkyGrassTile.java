@@ -13,11 +13,17 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class SkyGrassTile extends Tile {
+    private static final Tiles.Handle INFINITE_FALL = Tiles.handle("Infinite fall");
+    private static final Tiles.Handle FERROSITE = Tiles.handle("Ferrosite");
+    private static final Tiles.Handle CLOUD_CACTUS = Tiles.handle("Cloud cactus");
+    private static final Tiles.Handle CLOUD = Tiles.handle("Cloud");
+    private static final Tiles.Handle GOLDROOT_TREE = Tiles.handle("Goldroot Tree");
+
     private static ConnectorSprite sprite = new ConnectorSprite(SkyGrassTile.class, new Sprite(36, 21, 3, 3, 1), new Sprite(41, 21, 2, 2, 1), new Sprite(39, 21, 2, 2, 1)) {
         @Override
         public boolean connectsTo(Tile tile, boolean isSide) { // Sky grass cannot connect with these tiles
-        	 return tile != Tiles.get("Infinite fall") && tile != Tiles.get("Ferrosite") 
-        			&& tile != Tiles.get("Cloud cactus") && tile != Tiles.get("Cloud") && tile != Tiles.get("Goldroot Tree");
+        	 return tile != INFINITE_FALL.get() && tile != FERROSITE.get() 
+        			&& tile != CLOUD_CACTUS.get() && tile != CLOUD.get() && tile != GOLDROOT_TREE.get();
         }
     };
 
@@ -45,7 +51,7 @@ public class SkyGrassTile extends Tile {
             yn += random.nextInt(2) * 2 - 1;
         }
 
-        if (level.getTile(xn, yn) == Tiles.get("Cloud")) {
+        if (level.getTile(xn, yn) == CLOUD.get()) {
             level.setTile(xn, yn, this);
         }
 
@@ -54,10 +60,10 @@ public class SkyGrassTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        if (Tiles.get("Cloud") != null) {
-            Tiles.get("Cloud").render(screen, level, x, y);
+        if (CLOUD.get() != null) {
+            CLOUD.get().render(screen, level, x, y);
         } else {
-            Tiles.get("Ferrosite").render(screen, level, x, y);
+            FERROSITE.get().render(screen, level, x, y);
         }
         sprite.render(screen, level, x, y);
     }
@@ -13,6 +13,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class SkyHighGrassTile extends Tile {
+    private static final Tiles.Handle SKY_GRASS = Tiles.handle("Sky grass");
+
     private static ConnectorSprite sprite = new ConnectorSprite(SkyHighGrassTile.class, new Sprite(51, 6, 3, 3, 1), new Sprite(54, 6, 2, 2, 1)) {
 
 		@Override
@@ -54,7 +56,7 @@ public class SkyHighGrassTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Sky grass").render(screen, level, x, y);
+        SKY_GRASS.get().render(screen, level, x, y);
 
         sprite.render(screen, level, x, y);
     }
@@ -13,6 +13,8 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class SkyLawnTile extends Tile {
+	private static final Tiles.Handle SKY_GRASS = Tiles.handle("Sky grass");
+
 	private static final Sprite sprite = new Sprite(40, 23, 1);
 
 	protected SkyLawnTile(String name) {
@@ -52,7 +54,7 @@ public class SkyLawnTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Sky grass").render(screen, level, x, y);
+		SKY_GRASS.get().render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -64,6 +66,11 @@ public class SkyLawnTile extends Tile {
 		sprite.render(screen, x + 8 * (shape == 0 ? 1 : 0), y + 8);
 	}
 
+	@Override
+	public boolean ticksWith(int data) {
+		return false;
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		return false;
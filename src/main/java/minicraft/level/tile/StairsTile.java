@@ -4,7 +4,6 @@ import minicraft.core.Game;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.furniture.Furniture;
 import minicraft.entity.mob.Player;
 import minicraft.graphic.Screen;
 import minicraft.graphic.Sprite;
@@ -21,6 +20,7 @@ public class StairsTile extends Tile {
 
 	protected StairsTile(String name, boolean leadsUp) {	
 		super(name, leadsUp ? up_sprite : down_sprite);
+		blockedBy = Entity.FURNITURE;
 
 		maySpawn = false;
 	}
@@ -39,11 +39,6 @@ public class StairsTile extends Tile {
 		}
 	}
 
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return !(entity instanceof Furniture);
-	}
-
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
 
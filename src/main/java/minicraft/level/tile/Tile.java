@@ -19,9 +19,14 @@ public abstract class Tile {
 	
 	/** Random values used for all the tiles instances **/
 	protected static final Random random = new Random();
+	protected static final Direction[] FLOW_DIRECTIONS = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT }; // Where fluids flow to
 
 	public final String name;
 	public short id;
+
+	private final boolean ticks = overrides("tick", Level.class, int.class, int.class); // if this tile does anything in tick() at all
+	private final boolean bumps = overrides("bumpedInto", Level.class, int.class, int.class, Entity.class); // if bumpedInto() does anything
+	private final boolean passesByTraits = !overrides("mayPass", Level.class, int.class, int.class, Entity.class); // if mayPass() only looks at the traits of the mover
 	
 	/**
 	 * This is used by wall tiles to get what material they're made of.
@@ -69,6 +74,10 @@ public abstract class Tile {
 	public int light = 1;
 	protected boolean maySpawn = false;
 
+	// The movers that can pass this tile, and the ones that can't even so (see Entity.getMoverTraits())
+	protected int passableBy = Entity.MOVER;
+	protected int blockedBy = 0;
+
 	protected Sprite sprite = null;
 	protected ConnectorSprite connectorSprite = null;
 
@@ -91,6 +100,31 @@ public abstract class Tile {
 		return 0;
 	}
 
+	/**
+	 * Tells the level if this tile, with the given data, does anything on a random tick.
+	 * Only tiles that do are picked for random ticks; by default those are the tiles that
+	 * override tick().
+	 */
+	public boolean ticksWith(int data) {
+		return ticks;
+	}
+
+	private boolean overrides(String method, Class<?>... parameters) {
+		try {
+			return getClass().getMethod(method, parameters).getDeclaringClass() != Tile.class;
+		} catch (NoSuchMethodException exception) {
+			return true;
+		}
+	}
+
+	/**
+	 * If this tile can look different from one frame to the next on its own. The level
+	 * keeps the other tiles drawn in a cache, and draws these every frame.
+	 */
+	public boolean isAnimated() {
+		return false;
+	}
+
 	/** Render method, used in sub-classes */
 	public void render(Screen screen, Level level, int x, int y) {
 		if (sprite != null) {
@@ -105,9 +139,27 @@ public abstract class Tile {
 		return maySpawn;
 	}
 
-	/** Returns if the player can walk on it, overrides in sub-classes */
+	/**
+	 * Returns if the entity can walk on it. Most tiles only set passableBy and blockedBy;
+	 * tiles that depend on more than what kind of mover the entity is override this.
+	 */
 	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return true;
+		return mayPass(entity.getMoverTraits());
+	}
+
+	/** Returns if a mover with the given traits can walk on it, going by passableBy and blockedBy only. */
+	public final boolean mayPass(int moverTraits) {
+		return (moverTraits & passableBy) != 0 && (moverTraits & blockedBy) == 0;
+	}
+
+	/** If mayPass(traits) always gives the same answer as mayPass(level, x, y, entity). */
+	public boolean passesByTraits() {
+		return passesByTraits;
+	}
+
+	/** If bumpedInto() does anything, so movers don't need to call it for the others. */
+	public boolean bumps() {
+		return bumps;
 	}
 
 	/** Gets the light radius of a tile, Bigger number = bigger circle */
@@ -154,6 +206,18 @@ public abstract class Tile {
 		return false;
 	}
 
+	/**
+	 * If this tile is a fluid that would spread, or change a tile next to it, when it flows.
+	 * The level only lets the tiles that can flow do so, and asks again when a neighbour changes.
+	 */
+	public boolean canFlow(Level level, int xt, int yt) {
+		return false;
+	}
+
+	/** What a fluid does when it's its turn to flow (ex: water filling holes) */
+	public void flow(Level level, int xt, int yt) {
+	}
+
 	/** What happens when you are inside the tile (ex: lava) */
 	public void steppedOn(Level level, int xt, int yt, Entity entity) {
 	}
@@ -201,9 +265,12 @@ public abstract class Tile {
 			byte levelIndex = (byte) World.levelIndex(depth);
 			Level currentLevel = World.levels[levelIndex];
 			int pos = x + currentLevel.w * y;
+			if (x < 0 || y < 0 || x >= currentLevel.w || y >= currentLevel.h) {
+				return "";
+			}
 
-			int tileId = currentLevel.tiles[pos];
-			int tileData = currentLevel.data[pos];
+			int tileId = currentLevel.getTile(x, y).id;
+			int tileData = currentLevel.getData(x, y);
 
 			return levelIndex + ";" + pos + ";" + tileId + ";" + tileData;
 		} catch (NullPointerException | IndexOutOfBoundsException ignored) {
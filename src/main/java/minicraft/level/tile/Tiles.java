@@ -2,6 +2,7 @@ package minicraft.level.tile;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tinylog.Logger;
 
@@ -25,11 +26,19 @@ public final class Tiles {
 	/// all private, and then make a get(String) method, parameter is tile name.
 
 	public static ArrayList<String> oldids = new ArrayList<>();
-	private static final HashMap<Short, Tile> tiles = new HashMap<>();
+
+	private static final Tile[] tiles = new Tile[32768]; // indexed by id
+	private static final HashMap<String, Tile> tilesByName = new HashMap<>(); // upper-case name -> tile
+	private static final ConcurrentHashMap<String, Tile> lookups = new ConcurrentHashMap<>(); // get(String) argument -> result
+	private static int registryVersion = 0; // increases every time the tile list is (re)built
 
 	public static void initialize() {
 		Logger.debug("Initializing tile list ...");
 
+		tilesByName.clear();
+		lookups.clear();
+		registryVersion++;
+
 		Tiles.add(0, new GrassTile("Grass"));
 		Tiles.add(1, new DirtTile("Dirt"));
 		Tiles.add(2, new FlowerTile(Flower.DAISY));
@@ -158,13 +167,14 @@ public final class Tiles {
 		Tiles.add(255, new ConnectTile());
 
 		for (short tile = 0; tile < 256; tile++) {
-			if (tiles.get(tile) == null) continue;
-			tiles.get(tile).id = (short) tile;
+			if (tiles[tile] == null) continue;
+			tiles[tile].id = (short) tile;
 		}
 	}
 
 	protected static void add(int id, Tile tile) {
-		tiles.put((short) id, tile);
+		tiles[id] = tile;
+		tilesByName.putIfAbsent(tile.name, tile);
 		if (Game.debug) Logger.info("Loading tile ID \"{}\", adding \"{}\" for tile list ... ", id, Utils.formatText(tile.name));
 		tile.id = (short) id;
 	}
@@ -266,6 +276,12 @@ public final class Tiles {
 	public static Tile get(String name) {
 		// if (Game.debug) Logger.info("Getting from tile list: " + name);
 
+		Tile found = lookups.get(name);
+		if (found != null) {
+			return found;
+		}
+
+		String request = name;
 		name = name.toUpperCase();
 		overflowCheck++;
 
@@ -285,25 +301,23 @@ public final class Tiles {
 			name = name.substring(0, name.indexOf("_"));
 		}
 
-		Tile getting = null;
-		
-		for (Tile tile: tiles.values()) {
-			if (tile == null) continue;
-			if (tile.name.equals(name)) {
-				getting = tile;
-				break;
-			}
-		}
+		Tile getting = tilesByName.get(name);
+		boolean valid = getting != null;
 
-		if (getting == null) {
+		if (!valid) {
 			Logger.warn("TILES.GET: Invalid tile requested: " + name);
-			getting = tiles.get((short) 0);
+			getting = tiles[0];
 		}
 
 		if (isTorch) {
 			getting = TorchTile.getTorchTile(getting);
 		}
 
+		// Only remember good answers, so bad names keep warning
+		if (valid) {
+			lookups.put(request, getting);
+		}
+
 		overflowCheck = 0;
 		return getting;
 	}
@@ -312,7 +326,7 @@ public final class Tiles {
 		//System.out.println("Requesting tile by id: " + id);
 		if (id < 0) id += 32768;
 		
-		Tile tile = tiles.get((short)id);
+		Tile tile = id < tiles.length ? tiles[id] : null;
 
 		if (tile != null) {
 			return tile;
@@ -322,12 +336,38 @@ public final class Tiles {
 
 		} else {
 			Logger.warn("TILES.GET: Unknown tile id requested: " + id);
-			return tiles.get((short) 0);
+			return tiles[0];
 		}
 	}
 
 	public static boolean containsTile(int id) {
-		return tiles.get((short)id) != null;
+		return id >= 0 && id < tiles.length && tiles[id] != null;
+	}
+
+	/**
+	 * Returns a handle to the tile with the given name, for code that runs every tick
+	 * or frame. The name is only looked up once, the first time the handle is used.
+	 */
+	public static Handle handle(String name) {
+		return new Handle(name);
+	}
+
+	public static final class Handle {
+		private final String name;
+		private Tile tile;
+		private int version = -1;
+
+		private Handle(String name) {
+			this.name = name;
+		}
+
+		public Tile get() {
+			if (version != registryVersion) {
+				tile = Tiles.get(name);
+				version = registryVersion;
+			}
+			return tile;
+		}
 	}
 
 	public static String getName(String descriptName) {
@@ -2,7 +2,6 @@ package minicraft.level.tile;
 
 import org.tinylog.Logger;
 
-import minicraft.core.Updater;
 import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
@@ -21,11 +20,6 @@ public class TorchTile extends Tile {
     private static int LIGHT = 5;
     private Tile onType;
 
-    private int tickTime = 0;
-    
-    int spawnX = 0;
-    int spawnY = 0;
-
     public static TorchTile getTorchTile(Tile onTile) {
 		int id = onTile.id & 0xFFFF;
 		
@@ -57,24 +51,23 @@ public class TorchTile extends Tile {
         this.connectsToFluid = onType.connectsToFluid;
     }
 
+    @Override
+    public boolean isAnimated() {
+        return onType.isAnimated();
+    }
+
     @Override
     public void render(Screen screen, Level level, int x, int y) {
         onType.render(screen, level, x, y);
         sprite.render(screen, (x << 4) + 4, (y << 4) + 4);
-        
-		if (!Updater.paused && tickTime / 2 % 2 == 0 && Settings.getBoolean("particles")) {
-			if (random.nextBoolean()) {
-				level.add(new FireParticle(spawnX, spawnY));
-			}
-		}
     }
     
     @Override
 	public boolean tick(Level level, int x, int y) {
-		tickTime++;
-		
-		spawnX  = (x << 4) + 4;
-		spawnY = (y << 4) + random.nextInt(2) - random.nextInt(1);
+		// Spawned on the tick and not while drawing, so drawing the tile changes nothing
+		if (Settings.getBoolean("particles")) {
+			level.add(new FireParticle((x << 4) + 4, (y << 4) + random.nextInt(2) - random.nextInt(1)));
+		}
 		
 		return false;
 	}
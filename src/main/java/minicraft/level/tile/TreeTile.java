@@ -6,8 +6,6 @@ import minicraft.core.Game;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.mob.AirWizard;
-import minicraft.entity.mob.Firefly;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.SmashParticle;
@@ -166,6 +164,7 @@ public class TreeTile extends Tile {
 
     protected TreeTile(TreeType type) {
         super((type == TreeType.Red_mushroom ? "Red mushroom" : (type == TreeType.Brown_mushroom ? "Red mushroom" : type.name() + " Tree")), (ConnectorSprite) null);
+        passableBy = Entity.FIREFLY | Entity.AIR_WIZARD;
     	this.tree = type;
 
         switch (type.parentTile.toLowerCase()) {
@@ -237,11 +236,6 @@ public class TreeTile extends Tile {
         return false;
     }
 
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return entity instanceof Firefly || entity instanceof AirWizard;
-    }
-    
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
@@ -278,6 +272,11 @@ public class TreeTile extends Tile {
         }
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
@@ -4,7 +4,6 @@ import minicraft.core.Game;
 import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
-import minicraft.entity.Entity;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.SmashParticle;
@@ -20,11 +19,14 @@ import minicraft.item.ToolType;
 import minicraft.level.Level;
 
 public class UpRockTile extends Tile {
+    private static final Tiles.Handle ROCK = Tiles.handle("Rock");
+    private static final Tiles.Handle UP_ROCK = Tiles.handle("Up Rock");
+
 
     private ConnectorSprite sprite = new ConnectorSprite(UpRockTile.class, new Sprite(0, 6, 3, 3, 1), new Sprite(5, 6, 2, 2, 1), new Sprite(3, 6, 2, 2, 1)) {
     	@Override
         public boolean connectsTo(Tile tile, boolean isSide) {
-            return tile != Tiles.get("Rock") && tile == Tiles.get("Up Rock");
+            return tile != ROCK.get() && tile == UP_ROCK.get();
         }
     };
 
@@ -35,20 +37,16 @@ public class UpRockTile extends Tile {
 
     protected UpRockTile(String name) {
         super(name, (ConnectorSprite) null);
+        passableBy = 0;
         connectorSprite = sprite;
     }
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Rock").render(screen, level, x, y);
+        ROCK.get().render(screen, level, x, y);
         super.render(screen, level, x, y);
     }
 
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return false;
-    }
-
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
         hurt(level, x, y, hurtDamage);
@@ -102,6 +100,11 @@ public class UpRockTile extends Tile {
 		}
 	}
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         damage = level.getData(xt, yt);
@@ -3,7 +3,6 @@ package minicraft.level.tile;
 import minicraft.core.Game;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
-import minicraft.entity.Entity;
 import minicraft.entity.mob.AirWizard;
 import minicraft.entity.mob.Mob;
 import minicraft.entity.mob.Player;
@@ -28,6 +27,7 @@ public class WallTile extends Tile {
 
     protected WallTile(Material type) {
         super(type.name() + " Wall", (ConnectorSprite) null);
+        passableBy = 0;
 
         connectsToSkyGrass = true;
         connectsToSkyHighGrass = true;
@@ -75,11 +75,6 @@ public class WallTile extends Tile {
         connectorSprite = sprite;
     }
 
-    @Override
-    public boolean mayPass(Level level, int x, int y, Entity entity) {
-        return false;
-    }
-
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
         if (Game.isMode("Creative") || level.depth != -3 || type != Material.Obsidian || AirWizard.beaten) {
@@ -152,6 +147,11 @@ public class WallTile extends Tile {
         }
     }
 
+    @Override
+    public boolean ticksWith(int data) {
+        return data > 0; // only heals damage
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
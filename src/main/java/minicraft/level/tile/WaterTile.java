@@ -1,5 +1,6 @@
 package minicraft.level.tile;
 
+import minicraft.entity.Direction;
 import minicraft.entity.Entity;
 import minicraft.graphic.ConnectorSprite;
 import minicraft.graphic.Screen;
@@ -7,6 +8,10 @@ import minicraft.graphic.Sprite;
 import minicraft.level.Level;
 
 public class WaterTile extends Tile {
+	private static final Tiles.Handle HOLE = Tiles.handle("Hole");
+	private static final Tiles.Handle LAVA = Tiles.handle("Lava");
+	private static final Tiles.Handle RAW_OBSIDIAN = Tiles.handle("raw obsidian");
+
 	private ConnectorSprite sprite = new ConnectorSprite(WaterTile.class, new Sprite(18, 21, 3, 3, 1), Sprite.dots(0)) {
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
@@ -16,13 +21,14 @@ public class WaterTile extends Tile {
 
 	protected WaterTile(String name) {
 		super(name, (ConnectorSprite) null);
+		passableBy = Entity.SWIMMER;
 		connectorSprite = sprite;
 		connectsToFluid = true;
 	}
 
 	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity.canSwim();
+	public boolean isAnimated() {
+		return true; // the dots move with the tick count
 	}
 
 	@Override
@@ -34,31 +40,31 @@ public class WaterTile extends Tile {
 	}
 
 	@Override
-	public boolean tick(Level level, int xt, int yt) {
-	    int xn = xt;
-	    int yn = yt;
-
-	    switch (random.nextInt(2)) {
-	        case 0: xn += random.nextInt(2) * 2 - 1; break;
-	        case 1: yn += random.nextInt(2) * 2 - 1; break;
-	    }
-
-	    if (level.getTile(xn, yn) == Tiles.get("Hole")) {
-	        level.setTile(xn, yn, this);
-	    }
-
-	    Tile lavaTile = Tiles.get("Lava");
-	    Tile rawObsidianTile = Tiles.get("raw obsidian");
-	    for (int x = -1; x < 2; x++) {
-	        if (level.getTile(xt + x, yt) == lavaTile) {
-	            level.setTile(xt + x, yt, rawObsidianTile);
+	public boolean canFlow(Level level, int xt, int yt) {
+	    Tile holeTile = HOLE.get();
+	    Tile lavaTile = LAVA.get();
+	    for (Direction dir : FLOW_DIRECTIONS) {
+	        Tile tile = level.getTile(xt + dir.getX(), yt + dir.getY());
+	        if (tile == holeTile || tile == lavaTile) {
+	            return true;
 	        }
 	    }
-	    for (int y = -1; y < 2; y++) {
-	        if (level.getTile(xt, yt + y) == lavaTile) {
-	            level.setTile(xt, yt + y, rawObsidianTile);
+	    return false;
+	}
+
+	@Override
+	public void flow(Level level, int xt, int yt) {
+	    Tile holeTile = HOLE.get();
+	    Tile lavaTile = LAVA.get();
+	    for (Direction dir : FLOW_DIRECTIONS) {
+	        int xn = xt + dir.getX();
+	        int yn = yt + dir.getY();
+	        Tile tile = level.getTile(xn, yn);
+	        if (tile == holeTile) {
+	            level.setTile(xn, yn, this);
+	        } else if (tile == lavaTile) {
+	            level.setTile(xn, yn, RAW_OBSIDIAN.get());
 	        }
 	    }
-	    return false;
 	}
 }
\ No newline at end of file
@@ -45,6 +45,7 @@ public class WoolTile extends Tile {
 
 	public WoolTile(String name, WoolType woolType) {
 		super(name, woolType.sprite);
+		passableBy = Entity.WOOL_WALKER;
 	}
 
 	@Override
@@ -67,9 +68,4 @@ public class WoolTile extends Tile {
 		
 		return false;
 	}
-
-	@Override
-	public boolean mayPass(Level level, int x, int y, Entity entity) {
-		return entity.canWool();
-	}
 }
\ No newline at end of file
@@ -13,10 +13,12 @@ import minicraft.item.Items;
 import minicraft.item.ToolItem;
 import minicraft.item.ToolType;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class CarrotTile extends Plant {
+	private static final Tiles.Handle WATER = Tiles.handle("Water");
+	private static final Tiles.Handle FARMLAND = Tiles.handle("Farmland");
+
 
 	public CarrotTile(String name) {
 		super(name);
@@ -57,14 +59,7 @@ public class CarrotTile extends Plant {
 
 	@Override
 	public boolean ifWater(Level level, int xs, int ys) {
-		Tile[] areaTiles = level.getAreaTiles(xs, ys, 2);
-		for (Tile tile : areaTiles) {
-			if (tile == Tiles.get("Water")) {
-				return true;
-			}
-		}
-
-		return false;
+		return level.getDistanceTo(WATER.get(), xs, ys) <= 2;
 	}
 
 	@Override
@@ -87,7 +82,7 @@ public class CarrotTile extends Plant {
 		int age = level.getData(x, y);
 		int icon = age / (maxAge / 5);
 
-		Tiles.get("Farmland").render(screen, level, x, y);
+		FARMLAND.get().render(screen, level, x, y);
 
 		screen.render((x << 4) + 0, (y << 4) + 0, 0 + 39 * 32 + icon, 0, 1);
 		screen.render((x << 4) + 8, (y << 4) + 0, 0 + 39 * 32 + icon, 0, 1);
@@ -6,10 +6,12 @@ import minicraft.entity.mob.Player;
 import minicraft.graphic.Screen;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class ParsnipTile extends SkyPlant{
+	private static final Tiles.Handle SKY_GRASS = Tiles.handle("Sky grass");
+	private static final Tiles.Handle SKY_FARMLAND = Tiles.handle("Sky Farmland");
+
 
 	public ParsnipTile(String name) {
 		super(name);
@@ -20,7 +22,7 @@ public class ParsnipTile extends SkyPlant{
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Sky Farmland").render(screen, level, x, y);
+        SKY_FARMLAND.get().render(screen, level, x, y);
 
         screen.render((x << 4) + 0, (y << 4) + 0, 10 + 40 * 32 + icon, 0, 1);
         screen.render((x << 4) + 8, (y << 4) + 0, 10 + 40 * 32 + icon, 0, 1);
@@ -30,14 +32,7 @@ public class ParsnipTile extends SkyPlant{
 
     @Override
     protected boolean ifCloud(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Sky grass")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.getDistanceTo(SKY_GRASS.get(), xs, ys) <= 3;
     }
 
     @Override
@@ -9,10 +9,11 @@ import minicraft.entity.mob.Player;
 import minicraft.entity.mob.VillagerMob;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class Plant extends FarmTile {
+    private static final Tiles.Handle WATER = Tiles.handle("Water");
+
     protected static int maxAge = 100;
 
     protected Plant(String name) {
@@ -41,25 +42,14 @@ public class Plant extends FarmTile {
 
         int age = level.getData(xt, yt);
         if ((age < maxAge) && random.nextBoolean()) {
-            if (!ifWater(level, xt, yt)) {
-                level.setData(xt, yt, age + 1);
-            } else if (ifWater(level, xt, yt)) {
-                level.setData(xt, yt, age + 2);
-            }
+            level.setData(xt, yt, age + (ifWater(level, xt, yt) ? 2 : 1));
             return true;
         }
         return false;
     }
 
     protected boolean ifWater(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Water")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.getDistanceTo(WATER.get(), xs, ys) <= 3;
     }
 
     /**
@@ -8,10 +8,11 @@ import minicraft.entity.mob.Player;
 import minicraft.graphic.Sprite;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class SkyPlant extends SkyFarmTile {
+    private static final Tiles.Handle CLOUD = Tiles.handle("Cloud");
+
     protected static int maxAge = 100;
     private String name;
 
@@ -46,11 +47,7 @@ public class SkyPlant extends SkyFarmTile {
 
         int age = level.getData(xt, yt);
         if (age < maxAge) {
-            if (!ifCloud(level, xt, yt)) {
-                level.setData(xt, yt, age + 1);
-            } else if (ifCloud(level, xt, yt)) {
-                level.setData(xt, yt, age + 2);
-            }
+            level.setData(xt, yt, age + (ifCloud(level, xt, yt) ? 2 : 1));
             return true;
         }
 
@@ -58,14 +55,7 @@ public class SkyPlant extends SkyFarmTile {
     }
 
     protected boolean ifCloud(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 1);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Cloud")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.getDistanceTo(CLOUD.get(), xs, ys) <= 1;
     }
 
     /**
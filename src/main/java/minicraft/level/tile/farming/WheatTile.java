@@ -8,10 +8,12 @@ import minicraft.entity.mob.VillagerMob;
 import minicraft.graphic.Screen;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class WheatTile extends Plant {
+    private static final Tiles.Handle WATER = Tiles.handle("Water");
+    private static final Tiles.Handle FARMLAND = Tiles.handle("Farmland");
+
 
     public WheatTile(String name) {
         super(name);
@@ -22,7 +24,7 @@ public class WheatTile extends Plant {
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Farmland").render(screen, level, x, y);
+        FARMLAND.get().render(screen, level, x, y);
 
         screen.render((x << 4) + 0, (y << 4) + 0, 1 + 38 * 32 + icon, 0, 1);
         screen.render((x << 4) + 8, (y << 4) + 0, 1 + 38 * 32 + icon, 0, 1);
@@ -32,14 +34,7 @@ public class WheatTile extends Plant {
 
     @Override
     protected boolean ifWater(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Water")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.getDistanceTo(WATER.get(), xs, ys) <= 3;
     }
 
     @Override
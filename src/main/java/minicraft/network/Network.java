@@ -1,6 +1,6 @@
 package minicraft.network;
 
-import java.util.Random;
+import java.util.HashMap;
 
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONObject;
@@ -14,14 +14,17 @@ import minicraft.core.Action;
 import minicraft.core.Game;
 import minicraft.core.VersionInfo;
 import minicraft.entity.Entity;
-import minicraft.level.Level;
 
 public class Network extends Game {
 	private Network() {}
 
-	private static final Random random = new Random();
 	private static VersionInfo latestVersion = null;
 
+	// Every entity that is in a level, kept by Level.tick(). Entities are also made while a world
+	// loads, on another thread, so the map and the next id are only used while holding the class lock.
+	private static final HashMap<Integer, Entity> entitiesById = new HashMap<>();
+	private static int nextEntityId = 1; // Entity ids are handed out in order, so they never collide
+
 	// Obviously, this can be null.
 	@Nullable
 	public static VersionInfo getLatestVersion() {
@@ -50,46 +53,38 @@ public class Network extends Game {
 	}
 
 	@Nullable
-	public static Entity getEntity(int eid) {
-		for (Level level: levels) {
-			if (level == null) continue;
-			for (Entity e: level.getEntityArray()){
-				if (e.eid == eid){
-					return e;
-				}
-			}
-		}
+	public static synchronized Entity getEntity(int eid) {
+		return entitiesById.get(eid);
+	}
+
+	/** Called by the level when the entity was added to it. */
+	public static synchronized void registerEntity(Entity entity) {
+		entitiesById.put(entity.eid, entity);
+	}
 
-		return null;
+	/** Called by the level when the entity was removed from it, and isn't on another level. */
+	public static synchronized void unregisterEntity(Entity entity) {
+		if (entitiesById.get(entity.eid) == entity) { // another entity may have the id by now
+			entitiesById.remove(entity.eid);
+		}
 	}
 
-	public static int generateUniqueEntityId() {
+	public static synchronized int generateUniqueEntityId() {
 		int eid;
-		int tries = 0; // Just in case it gets out of hand.
 		do {
-			tries++;
-			if (tries == 1000)
-				System.out.println("Note: Trying 1000th time to find valid entity id...(Will continue)");
-
-			eid = random.nextInt();
+			eid = nextEntityId++;
+			if (nextEntityId <= 0) {
+				nextEntityId = 1; // Ran out of ids, start over and skip the ones in use.
+			}
 		} while (!idIsAvailable(eid));
 
 		return eid;
 	}
 
-	public static boolean idIsAvailable(int eid) {
+	public static synchronized boolean idIsAvailable(int eid) {
 		if (eid == 0) return false; // This is reserved for the main player... kind of...
 		if (eid < 0) return false; // ID's must be positive numbers.
 
-		for (Level level: levels) {
-			if (level == null) continue;
-			for (Entity e: level.getEntityArray()) {
-				if (e.eid == eid){
-					return false;
-				}
-			}
-		}
-
-		return true;
+		return !entitiesById.containsKey(eid);
 	}
 }
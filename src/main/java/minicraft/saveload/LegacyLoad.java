@@ -236,8 +236,7 @@ public class LegacyLoad {
             }
 
             World.levels[l] = new Level(worldWidth, worldHeight, lvldepth, null, false);
-            World.levels[l].tiles = tiles;
-            World.levels[l].data = tdata;
+            World.levels[l].loadTiles(tiles, tdata);
         }
     }
 
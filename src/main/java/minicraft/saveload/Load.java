@@ -84,6 +84,7 @@ import minicraft.item.Items;
 import minicraft.item.PotionItem;
 import minicraft.item.PotionType;
 import minicraft.item.StackableItem;
+import minicraft.level.ExploredMap;
 import minicraft.level.Level;
 import minicraft.level.tile.Tiles;
 import minicraft.network.Network;
@@ -431,6 +432,7 @@ public class Load {
         Settings.set("bossbar", json.has("diff") ? json.getString("diff") : "On screen");
         Settings.set("particles", json.getBoolean("particles"));
         Settings.set("shadows", json.getBoolean("shadows"));
+        Settings.set("parallel", json.has("parallel") && json.getBoolean("parallel"));
 
 		if (json.has("lang")) {
 			String lang = json.getString("lang");
@@ -582,8 +584,7 @@ public class Load {
 			World.levels[levelIndex] = new Level(worldWidth, worldHeight, seed, levelDepth, parent, false);
 
 			Level currentLevel = World.levels[levelIndex];
-			currentLevel.tiles = tiles;
-			currentLevel.data = datas;
+			currentLevel.loadTiles(tiles, datas);
 
 			if (Game.debug) {
 				currentLevel.printTileLocs(Tiles.get("Stairs Down"));
@@ -626,13 +627,19 @@ public class Load {
 		        // Get the base64-encoded explored data from the data list
 		        String exploredData = data.get(0);
 
+		        // Older saves hold a serialized boolean[][], which always starts with "rO0" in base 64
+		        if (!exploredData.startsWith("rO0")) {
+		            currentLevel.explored = ExploredMap.decode(exploredData);
+		            continue;
+		        }
+
 		        // Decode the base64 string to a byte array
 		        byte[] byteArray = Base64.getDecoder().decode(exploredData);
 
 		        // Deserialize the byte array to the explored array
 		        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArray))) {
 		            boolean[][] explored = (boolean[][]) objectInputStream.readObject();
-		            currentLevel.explored = explored;
+		            currentLevel.explored = ExploredMap.fromArray(explored);
 		        } catch (IOException | ClassNotFoundException e) {
 		            e.printStackTrace();
 		        }
@@ -1,13 +1,10 @@
 package minicraft.saveload;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -212,6 +209,7 @@ public class Save {
         json.put("bossbar", Settings.get("bossbar"));
         json.put("particles", String.valueOf(Settings.get("particles")));
         json.put("shadows", String.valueOf(Settings.get("shadows")));
+        json.put("parallel", String.valueOf(Settings.get("parallel")));
         
 		json.put("lang", Localization.getSelectedLanguage());
 		
@@ -299,16 +297,8 @@ public class Save {
 	    for (int currentLevel = 0; currentLevel < World.levels.length; currentLevel++) {
 	        Level currentLevelObj = World.levels[currentLevel];
 
-	        // Serialize the explored array to a byte array
-	        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-	        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
-	            objectOutputStream.writeObject(currentLevelObj.explored);
-	        } catch (IOException e) {
-	            e.printStackTrace();
-	        }
-
-	        // Convert the byte array to a base64-encoded string
-	        String exploredData = Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray());
+	        // Run-length encode the explored map into a base64 string
+	        String exploredData = currentLevelObj.explored.encode();
 	        
 	        // Add the serialized and encoded explored data to the data array
 	        data.add(exploredData);
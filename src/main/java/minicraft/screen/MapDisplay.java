@@ -10,6 +10,7 @@ import minicraft.entity.mob.EyeQueen;
 import minicraft.graphic.Color;
 import minicraft.graphic.Rectangle;
 import minicraft.graphic.Screen;
+import minicraft.level.ExploredMap;
 import minicraft.util.MapData;
 
 public class MapDisplay extends Display {
@@ -29,7 +30,6 @@ public class MapDisplay extends Display {
 
     
     private int mapRadius = 9;
-    private int worldSize = Game.levels[Game.currentLevel].w;   // Adjust this to match the world size
 	
 	public MapDisplay() {
 
@@ -76,12 +76,13 @@ public class MapDisplay extends Display {
 		int smy = (pty >> 7) << 7;
 
 		Rectangle menuBounds = menu.getBounds();
+		ExploredMap explored = Game.levels[Game.currentLevel].explored;
 
         for (int y = 0; y < 128; y++) {
             for (int x = 0; x < 128; x++) {
                 int worldX = x + smx;
                 int worldY = y + smy;
-                if (Game.levels[Game.currentLevel].explored[worldY][worldX]) {
+                if (explored.isExplored(worldX, worldY)) {
                     MapData mapData = MapData.getById(Game.levels[Game.currentLevel].getTile(worldX, worldY).id);
                     int color = mapData != null ? mapData.color : 0;
                     screen.setPixel((x + menuBounds.getLeft()) + 8, (y + menuBounds.getTop()) + 8, color);
@@ -135,28 +136,22 @@ public class MapDisplay extends Display {
         int pty = Game.player.y >> 4;
         int visibleRadiusSquared = (mapRadius - 1) * (mapRadius - 1); // Square of the inner radius (visible area)
         int ditherRadiusSquared = mapRadius * mapRadius; // Square of the outer radius (dithered area)
+        ExploredMap explored = Game.levels[Game.currentLevel].explored;
+
+        // The visible area is set a row at a time
+        explored.revealCircle(ptx, pty, mapRadius - 1);
 
         for (int y = -mapRadius; y <= mapRadius; y++) {
             for (int x = -mapRadius; x <= mapRadius; x++) {
-                int worldX = (ptx + x) % worldSize;
-                int worldY = (pty + y) % worldSize;
-
-                if (worldX < 0) worldX += worldSize;
-                if (worldY < 0) worldY += worldSize;
-
                 // Calculate the squared distance from the player's position to the current tile
-                int dx = ptx - worldX;
-                int dy = pty - worldY;
-                int distanceSquared = dx * dx + dy * dy;
-
-                // Check if the tile is within the circular exploration area (visible area)
-                if (distanceSquared <= visibleRadiusSquared) {
-                    Game.levels[Game.currentLevel].explored[worldY][worldX] = true;
-                } else if (distanceSquared <= ditherRadiusSquared) {
+                int distanceSquared = x * x + y * y;
+
+                // Only the ring between the visible area and the outer radius is left
+                if (distanceSquared > visibleRadiusSquared && distanceSquared <= ditherRadiusSquared) {
                     // Apply a dither pattern for the dithered area
                     int ditherValue = (distanceSquared - visibleRadiusSquared) * 255 / (ditherRadiusSquared - visibleRadiusSquared - 1);
                     if (Math.random() * 255 < ditherValue) {
-                        Game.levels[Game.currentLevel].explored[worldY][worldX] = true;
+                        explored.setExplored(ptx + x, pty + y);
                     }
                 }
             }
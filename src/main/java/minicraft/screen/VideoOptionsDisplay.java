@@ -23,6 +23,7 @@ public class VideoOptionsDisplay extends Display {
             Settings.getEntry("vsync"),
             Settings.getEntry("particles"),
             Settings.getEntry("shadows"),
+            Settings.getEntry("parallel"),
             new BlankEntry(),
             Settings.getEntry("bossbar")
         )